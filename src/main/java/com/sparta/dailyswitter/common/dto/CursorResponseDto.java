@@ -0,0 +1,31 @@
+package com.sparta.dailyswitter.common.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Getter;
+
+@Getter
+public class CursorResponseDto<T> {
+	private final List<T> content;
+	private final String nextCursor;
+	private final boolean hasNext;
+
+	public CursorResponseDto(List<T> content, String nextCursor) {
+		this.content = content;
+		this.nextCursor = nextCursor;
+		this.hasNext = nextCursor != null;
+	}
+
+	/**
+	 * size + 1 건을 조회한 결과를 받아 다음 페이지 존재 여부와 커서를 계산한다.
+	 */
+	public static <T> CursorResponseDto<T> of(List<T> rows, int size, Function<T, String> cursorExtractor) {
+		if (rows.size() <= size) {
+			return new CursorResponseDto<>(rows, null);
+		}
+		List<T> content = new ArrayList<>(rows.subList(0, size));
+		return new CursorResponseDto<>(content, cursorExtractor.apply(content.get(size - 1)));
+	}
+}
@@ -30,6 +30,7 @@ public enum ErrorCode {
 	ILLEGAL_TOKEN(400, "잘못된 JWT 토큰입니다."),
 	RELOGIN_REQUIRED(401, "재로그인 해주세요"),
 	INVALID_REQUEST(400, "잘못된 요청입니다."),
+	INVALID_CURSOR(400, "잘못된 커서 값입니다."),
 	INCORRECT_ADMIN_KEY(400, "입력하신 ADMIN키가 일치하지 않습니다."),
 	UNAUTHORIZED_ADMIN(403, "권한이 없습니다.");
 
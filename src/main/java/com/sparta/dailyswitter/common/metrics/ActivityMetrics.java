@@ -0,0 +1,66 @@
+package com.sparta.dailyswitter.common.metrics;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 좋아요/팔로우 처리량 카운터. 실제로 행이 추가/삭제된 경우에만 올린다.
+ */
+@Component
+public class ActivityMetrics {
+
+	private final Counter postLiked;
+	private final Counter postUnliked;
+	private final Counter commentLiked;
+	private final Counter commentUnliked;
+	private final Counter followed;
+	private final Counter unfollowed;
+
+	public ActivityMetrics(MeterRegistry meterRegistry) {
+		this.postLiked = likeCounter(meterRegistry, "post", "like");
+		this.postUnliked = likeCounter(meterRegistry, "post", "unlike");
+		this.commentLiked = likeCounter(meterRegistry, "comment", "like");
+		this.commentUnliked = likeCounter(meterRegistry, "comment", "unlike");
+		this.followed = followCounter(meterRegistry, "follow");
+		this.unfollowed = followCounter(meterRegistry, "unfollow");
+	}
+
+	public void postLiked() {
+		postLiked.increment();
+	}
+
+	public void postUnliked() {
+		postUnliked.increment();
+	}
+
+	public void commentLiked() {
+		commentLiked.increment();
+	}
+
+	public void commentUnliked() {
+		commentUnliked.increment();
+	}
+
+	public void followed() {
+		followed.increment();
+	}
+
+	public void unfollowed() {
+		unfollowed.increment();
+	}
+
+	private static Counter likeCounter(MeterRegistry meterRegistry, String target, String action) {
+		return Counter.builder("dailyswitter.likes")
+			.tag("target", target)
+			.tag("action", action)
+			.register(meterRegistry);
+	}
+
+	private static Counter followCounter(MeterRegistry meterRegistry, String action) {
+		return Counter.builder("dailyswitter.follows")
+			.tag("action", action)
+			.register(meterRegistry);
+	}
+}
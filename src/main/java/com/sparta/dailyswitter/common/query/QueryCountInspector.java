@@ -0,0 +1,12 @@
+package com.sparta.dailyswitter.common.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCountInspector implements StatementInspector {
+
+	@Override
+	public String inspect(String sql) {
+		QueryCounter.record(sql);
+		return sql;
+	}
+}
@@ -0,0 +1,51 @@
+package com.sparta.dailyswitter.common.query;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청마다 실행된 SQL 문 수를 세고, 임계치를 넘으면 어떤 컨트롤러 메서드였는지와 함께 남긴다.
+ * N+1 처럼 행 수에 비례해 쿼리가 늘어나는 코드를 찾는 용도다.
+ * 요청당 쿼리 수는 컨트롤러 메서드별 분포(http.server.requests.queries)로도 남긴다.
+ */
+@Slf4j(topic = "QUERY_COUNT")
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+	private final int warnThreshold;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		QueryCounter.start();
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+		Exception ex) {
+		int count = QueryCounter.stop();
+		String handlerName = handlerName(handler);
+		DistributionSummary.builder("http.server.requests.queries")
+			.tag("handler", handlerName)
+			.register(meterRegistry)
+			.record(count);
+		if (count > warnThreshold) {
+			log.warn("쿼리 {}회 실행: {} {} ({})", count, request.getMethod(), request.getRequestURI(), handlerName);
+		}
+	}
+
+	private String handlerName(Object handler) {
+		if (handler instanceof HandlerMethod handlerMethod) {
+			return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+		}
+		return handler.getClass().getSimpleName();
+	}
+}
@@ -0,0 +1,64 @@
+package com.sparta.dailyswitter.common.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 쓰레드에서 실행된 SQL 문 수를 센다.
+ * start 와 stop 사이에 QueryCountInspector 를 거친 문장만 집계되며, start 하지 않은 쓰레드는 세지 않는다.
+ */
+public final class QueryCounter {
+
+	private static final ThreadLocal<Recording> RECORDING = new ThreadLocal<>();
+
+	private QueryCounter() {
+	}
+
+	public static void start() {
+		RECORDING.set(new Recording(null));
+	}
+
+	/**
+	 * start 와 같지만 실행된 SQL 문도 순서대로 보관한다. 생성된 SQL 을 직접 확인하는 테스트에서 쓴다.
+	 */
+	static void startCapture() {
+		RECORDING.set(new Recording(new ArrayList<>()));
+	}
+
+	public static int stop() {
+		int count = current();
+		RECORDING.remove();
+		return count;
+	}
+
+	public static int current() {
+		Recording recording = RECORDING.get();
+		return recording == null ? 0 : recording.count;
+	}
+
+	static List<String> statements() {
+		Recording recording = RECORDING.get();
+		return recording == null || recording.statements == null ? List.of() : List.copyOf(recording.statements);
+	}
+
+	static void record(String sql) {
+		Recording recording = RECORDING.get();
+		if (recording == null) {
+			return;
+		}
+		recording.count++;
+		if (recording.statements != null) {
+			recording.statements.add(sql);
+		}
+	}
+
+	private static final class Recording {
+
+		private final List<String> statements;
+		private int count;
+
+		private Recording(List<String> statements) {
+			this.statements = statements;
+		}
+	}
+}
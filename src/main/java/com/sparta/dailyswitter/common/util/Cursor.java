@@ -0,0 +1,73 @@
+package com.sparta.dailyswitter.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.sparta.dailyswitter.common.exception.CustomException;
+import com.sparta.dailyswitter.common.exception.ErrorCode;
+
+/**
+ * 키셋 페이지네이션에 사용하는 불투명(opaque) 커서.
+ * 마지막 행의 정렬 키 값들을 Base64(URL-safe)로 인코딩해 클라이언트에 전달한다.
+ */
+public class Cursor {
+
+	private static final String DELIMITER = "|";
+
+	private final String[] values;
+
+	private Cursor(String[] values) {
+		this.values = values;
+	}
+
+	public static String encode(Object... values) {
+		String joined = Arrays.stream(values)
+			.map(String::valueOf)
+			.collect(Collectors.joining(DELIMITER));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static Cursor decode(String cursor, int size) {
+		String decoded;
+		try {
+			decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+
+		String[] values = decoded.split(Pattern.quote(DELIMITER), -1);
+		if (values.length != size) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+		return new Cursor(values);
+	}
+
+	public Long getLong(int index) {
+		try {
+			return Long.valueOf(values[index]);
+		} catch (NumberFormatException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public LocalDateTime getDateTime(int index) {
+		try {
+			return LocalDateTime.parse(values[index]);
+		} catch (DateTimeParseException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public boolean getBoolean(int index) {
+		String value = values[index];
+		if (!"true".equals(value) && !"false".equals(value)) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+		return Boolean.parseBoolean(value);
+	}
+}
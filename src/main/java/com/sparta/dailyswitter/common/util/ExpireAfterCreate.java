@@ -0,0 +1,33 @@
+package com.sparta.dailyswitter.common.util;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 항목이 처음 적재된 시점부터 ttl 이 지나면 만료시키는 Expiry.
+ * expireAfterWrite 와 달리 캐시에 올라온 값을 제자리에서 고쳐도 만료 시각이 늦춰지지 않는다.
+ */
+public class ExpireAfterCreate<K, V> implements Expiry<K, V> {
+
+	private final long ttlNanos;
+
+	public ExpireAfterCreate(Duration ttl) {
+		this.ttlNanos = ttl.toNanos();
+	}
+
+	@Override
+	public long expireAfterCreate(K key, V value, long currentTime) {
+		return ttlNanos;
+	}
+
+	@Override
+	public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+		return currentDuration;
+	}
+
+	@Override
+	public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+		return currentDuration;
+	}
+}
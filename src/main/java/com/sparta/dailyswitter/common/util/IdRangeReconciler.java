@@ -0,0 +1,45 @@
+package com.sparta.dailyswitter.common.util;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상대값 UPDATE 로 관리되는 집계 컬럼을 실제 행 수로 다시 맞추는 보정 작업의 공통 골격.
+ * 테이블 전체를 한 문장으로 고치지 않고 (from, to] id 구간마다 트랜잭션을 나눠,
+ * 잠금이 한 구간의 행에만 짧게 걸리고 그동안 다른 행의 상대값 UPDATE 는 막히지 않게 한다.
+ */
+@Slf4j
+public abstract class IdRangeReconciler {
+
+	private final TransactionTemplate transactionTemplate;
+	private final String name;
+	private final int batchSize;
+
+	protected IdRangeReconciler(TransactionTemplate transactionTemplate, String name, int batchSize) {
+		this.transactionTemplate = transactionTemplate;
+		this.name = name;
+		this.batchSize = batchSize;
+	}
+
+	public int reconcile() {
+		long maxId = findMaxId();
+		int repaired = 0;
+		for (long from = 0; from < maxId; from += batchSize) {
+			long lower = from;
+			Integer updated = transactionTemplate.execute(status -> reconcileRange(lower, lower + batchSize));
+			repaired += updated == null ? 0 : updated;
+		}
+		if (repaired > 0) {
+			log.warn("{} 보정: {}건", name, repaired);
+		}
+		return repaired;
+	}
+
+	protected abstract long findMaxId();
+
+	/**
+	 * from 초과 to 이하 id 의 행 중 실제 값과 어긋난 행을 고치고, 고친 행 수를 반환한다.
+	 */
+	protected abstract int reconcileRange(long from, long to);
+}
@@ -0,0 +1,72 @@
+package com.sparta.dailyswitter.common.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 정렬된 long[] 하나로 id 집합을 표현하는 불변 집합.
+ * Set<Long> 대비 원소당 8바이트만 사용하며 contains 는 이진 탐색으로 처리한다.
+ * 변경은 새 배열을 만드는 copy-on-write 방식이라 여러 쓰레드가 잠금 없이 읽을 수 있다.
+ */
+public final class SortedLongSet {
+
+	private static final SortedLongSet EMPTY = new SortedLongSet(new long[0]);
+
+	private final long[] values;
+
+	private SortedLongSet(long[] values) {
+		this.values = values;
+	}
+
+	public static SortedLongSet empty() {
+		return EMPTY;
+	}
+
+	public static SortedLongSet of(Collection<Long> ids) {
+		long[] values = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+		return values.length == 0 ? EMPTY : new SortedLongSet(values);
+	}
+
+	public boolean contains(long id) {
+		return Arrays.binarySearch(values, id) >= 0;
+	}
+
+	public SortedLongSet with(long id) {
+		int index = Arrays.binarySearch(values, id);
+		if (index >= 0) {
+			return this;
+		}
+		int insertAt = -index - 1;
+		long[] copy = new long[values.length + 1];
+		System.arraycopy(values, 0, copy, 0, insertAt);
+		copy[insertAt] = id;
+		System.arraycopy(values, insertAt, copy, insertAt + 1, values.length - insertAt);
+		return new SortedLongSet(copy);
+	}
+
+	public SortedLongSet without(long id) {
+		int index = Arrays.binarySearch(values, id);
+		if (index < 0) {
+			return this;
+		}
+		long[] copy = new long[values.length - 1];
+		System.arraycopy(values, 0, copy, 0, index);
+		System.arraycopy(values, index + 1, copy, index, values.length - index - 1);
+		return new SortedLongSet(copy);
+	}
+
+	public int size() {
+		return values.length;
+	}
+
+	public boolean isEmpty() {
+		return values.length == 0;
+	}
+
+	/**
+	 * 오름차순 id 배열의 복사본. 이웃 목록을 한 번에 넘길 때 사용한다.
+	 */
+	public long[] toArray() {
+		return values.clone();
+	}
+}
@@ -0,0 +1,234 @@
+package com.sparta.dailyswitter.common.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 집계 컬럼 하나를 WriteBehindCounter 로 모아 주기적으로 상대값 UPDATE 하는 카운터.
+ * 게시물/댓글 좋아요 수, 사용자 팔로워 수처럼 요청마다 같은 행을 고치면 그 행에 쓰기가 줄 서는 컬럼이 상속해 쓴다.
+ *
+ * 증감분은 원본 행이 커밋된 뒤에만 쌓는다. 롤백된 변경은 카운터에 남지 않는다.
+ * 커밋은 끝났지만 아직 증감분을 쌓지 않은 id 는 committing 에 잡혀 있어, 보정 작업이 그 사이를 기다릴 수 있다.
+ */
+@Slf4j
+public abstract class WriteBehindColumnCounter {
+
+	private static final int RECONCILE_MAX_ATTEMPTS = 10;
+	private static final long RECONCILE_RETRY_DELAY_MILLIS = 10;
+
+	private final String table;
+	private final String column;
+	private final String flushSql;
+	private final String maxIdSql;
+	private final String lockSql;
+	private final String reconcileSql;
+	private final int reconcileBatchSize;
+	private final WriteBehindCounter counter = new WriteBehindCounter();
+	private final Map<Long, Integer> committing = new ConcurrentHashMap<>();
+
+	protected final JdbcTemplate jdbcTemplate;
+	protected final TransactionTemplate transactionTemplate;
+
+	/**
+	 * countSql 은 table 의 행 t 하나에 대한 실제 값을 세는 상관 서브쿼리다. 예) SELECT COUNT(*) FROM comment_like cl WHERE cl.comment_id = t.id
+	 */
+	protected WriteBehindColumnCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+		String table, String column, String countSql, int reconcileBatchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.table = table;
+		this.column = column;
+		this.reconcileBatchSize = reconcileBatchSize;
+		this.flushSql = "UPDATE " + table + " SET " + column + " = " + column + " + ? WHERE id = ?";
+		this.maxIdSql = "SELECT COALESCE(MAX(id), 0) FROM " + table;
+		this.lockSql = "SELECT id FROM " + table + " WHERE id > ? AND id <= ? FOR UPDATE";
+		this.reconcileSql = "UPDATE " + table + " t SET " + column + " = (" + countSql + ") - ? "
+			+ "WHERE t.id = ? AND t." + column + " <> (" + countSql + ") - ?";
+	}
+
+	public void increment(Long id) {
+		addAfterCommit(id, 1L);
+	}
+
+	public void decrement(Long id) {
+		addAfterCommit(id, -1L);
+	}
+
+	public long pending(Long id) {
+		return counter.pending(id);
+	}
+
+	@Scheduled(fixedDelayString = "${counter.flush-interval-ms:1000}")
+	public void flush() {
+		try {
+			counter.flush(this::write);
+		} catch (RuntimeException e) {
+			log.error("{}.{} 반영 실패", table, column, e);
+		}
+	}
+
+	@PreDestroy
+	public void flushAll() {
+		counter.flushAll(this::write);
+	}
+
+	/**
+	 * countSql 로 센 실제 값을 기준으로 컬럼을 다시 계산한다.
+	 * 보정값은 실제 값에서 아직 반영되지 않은 증감분을 뺀 값이라, 보정 뒤 그 증감분이 반영되어도 두 번 세지 않는다.
+	 *
+	 * id 구간마다 행을 잠가 그 구간의 변경이 보정과 겹치지 않게 하고,
+	 * flush 를 멈춰 pending 이 DB 에 옮겨가는 중간 상태를 읽지 않는다.
+	 * 다른 노드에 쌓인 증감분은 알 수 없으므로 보정 직전 한 번의 flush 주기 안에 들어온 변경은 오차로 남을 수 있다.
+	 */
+	public int reconcile() {
+		Long maxId = jdbcTemplate.queryForObject(maxIdSql, Long.class);
+		int repaired = 0;
+		for (long from = 0; maxId != null && from < maxId; from += reconcileBatchSize) {
+			repaired += reconcileRange(from, from + reconcileBatchSize);
+		}
+		log.info("{}.{} 보정 완료: {}건", table, column, repaired);
+		return repaired;
+	}
+
+	/**
+	 * 반영이 끝난 id 에 대해 호출된다. 반영 전 값을 캐시하는 쪽이 있으면 여기서 비운다.
+	 */
+	protected void afterWrite(Collection<Long> ids) {
+	}
+
+	/**
+	 * flush 를 멈춘 채 action 을 실행한다. 보정 작업이 pending 을 읽고 쓰는 동안 증감분이 DB 로 옮겨가지 않게 한다.
+	 */
+	protected <T> T whilePaused(Supplier<T> action) {
+		return counter.whilePaused(action);
+	}
+
+	/**
+	 * 커밋은 끝났지만 증감분이 아직 카운터에 쌓이지 않은 id 인지 확인한다.
+	 */
+	protected boolean isCommitting(Long id) {
+		return committing.containsKey(id);
+	}
+
+	/**
+	 * from 초과 to 이하 id 중 커밋 직후 증감분이 아직 쌓이지 않은 id 가 있는지 확인한다.
+	 */
+	protected boolean hasCommitting(long from, long to) {
+		return committing.keySet().stream().anyMatch(id -> id > from && id <= to);
+	}
+
+	protected void write(Map<Long, Long> deltas, Runnable written) {
+		List<Object[]> args = deltas.entrySet().stream()
+			.map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+			.toList();
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.batchUpdate(flushSql, args);
+			// 커밋으로 DB 값에 포함되는 즉시 pending 에서 빼, 조회가 같은 증감분을 두 번 세지 않게 한다.
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					written.run();
+				}
+			});
+		});
+		afterWrite(deltas.keySet());
+	}
+
+	/**
+	 * 커밋 직후 증감분이 아직 쌓이지 않은 id 가 구간에 있으면 잠그기 전에 잠시 기다렸다 다시 시도한다.
+	 * 잠근 뒤에 그런 id 가 보이면 잠금을 풀고 다시 시도하고, 마지막 시도에서는 그 id 만 다음 보정에 맡긴다.
+	 */
+	private int reconcileRange(long lower, long upper) {
+		for (int attempt = 1; attempt <= RECONCILE_MAX_ATTEMPTS; attempt++) {
+			boolean lastAttempt = attempt == RECONCILE_MAX_ATTEMPTS;
+			if (!lastAttempt && hasCommitting(lower, upper)) {
+				backOff();
+				continue;
+			}
+			Integer updated = whilePaused(() -> transactionTemplate.execute(status -> {
+				Integer result = reconcileLocked(lower, upper, lastAttempt);
+				if (result == null) {
+					status.setRollbackOnly();
+				}
+				return result;
+			}));
+			if (updated != null) {
+				return updated;
+			}
+			backOff();
+		}
+		return 0;
+	}
+
+	private Integer reconcileLocked(long lower, long upper, boolean lastAttempt) {
+		List<Long> ids = jdbcTemplate.queryForList(lockSql, Long.class, lower, upper);
+		List<Object[]> args = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			if (isCommitting(id)) {
+				if (!lastAttempt) {
+					return null;
+				}
+				log.warn("{}.{} 보정 건너뜀: id={}", table, column, id);
+				continue;
+			}
+			long pending = pending(id);
+			args.add(new Object[] {pending, id, pending});
+		}
+		int updated = 0;
+		for (int count : jdbcTemplate.batchUpdate(reconcileSql, args)) {
+			updated += Math.max(count, 0);
+		}
+		return updated;
+	}
+
+	private void backOff() {
+		try {
+			TimeUnit.MILLISECONDS.sleep(RECONCILE_RETRY_DELAY_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(table + "." + column + " 보정이 중단되었습니다.", e);
+		}
+	}
+
+	private void addAfterCommit(Long id, long delta) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			counter.add(id, delta);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			private boolean marked;
+
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				committing.merge(id, 1, Integer::sum);
+				marked = true;
+			}
+
+			@Override
+			public void afterCommit() {
+				counter.add(id, delta);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (marked) {
+					committing.computeIfPresent(id, (key, count) -> count == 1 ? null : count - 1);
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,98 @@
+package com.sparta.dailyswitter.common.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * id 별 증감분을 메모리의 LongAdder 셀에 모아 두었다가 주기적으로 한 번에 DB 에 반영하는 카운터.
+ * 쓰기 쓰레드는 행 잠금 없이 셀만 증가시키고, 조회 시에는 아직 반영되지 않은 증감분을 pending 으로 더한다.
+ *
+ * flush 는 활성 세대를 교체한 뒤 직전 세대를 한 주기 늦게 비운다.
+ * 교체 직전에 셀을 집어간 쓰레드의 증감분도 다음 flush 에서 함께 반영된다.
+ * 세 세대는 하나의 스냅숏으로 함께 교체되므로 pending 은 같은 증감분을 두 번 세지 않는다.
+ */
+public class WriteBehindCounter {
+
+	/**
+	 * 증감분을 DB 에 쓰는 쪽. 쓴 값이 다른 트랜잭션에 보이게 된 직후 written 을 호출해야 한다.
+	 */
+	@FunctionalInterface
+	public interface Writer {
+		void write(Map<Long, Long> deltas, Runnable written);
+	}
+
+	private record Generations(Map<Long, LongAdder> active, Map<Long, LongAdder> retired, Map<Long, Long> flushing) {
+	}
+
+	private volatile Generations generations =
+		new Generations(new ConcurrentHashMap<>(), Collections.emptyMap(), Collections.emptyMap());
+
+	public void add(Long id, long delta) {
+		generations.active().computeIfAbsent(id, key -> new LongAdder()).add(delta);
+	}
+
+	public long pending(Long id) {
+		Generations current = generations;
+		return sum(current.active().get(id)) + sum(current.retired().get(id))
+			+ current.flushing().getOrDefault(id, 0L);
+	}
+
+	/**
+	 * 직전 세대와 지난번에 반영하지 못한 증감분을 writer 에 넘긴다.
+	 * writer 가 실패하면 증감분은 반영 대기 상태로 남아 다음 flush 에서 다시 넘어간다.
+	 * 증감분은 id 순으로 정렬되어 전달되므로 여러 노드가 동시에 반영해도 잠금 순서가 같다.
+	 */
+	public synchronized void flush(Writer writer) {
+		Generations current = generations;
+		Map<Long, Long> deltas = new TreeMap<>(current.flushing());
+		current.retired().forEach((id, cell) -> deltas.merge(id, cell.sum(), Long::sum));
+		deltas.values().removeIf(delta -> delta == 0);
+
+		// 직전 세대를 빼는 것과 flushing 으로 넣는 것을 한 번에 공개한다.
+		generations = new Generations(new ConcurrentHashMap<>(), current.active(), deltas);
+		if (deltas.isEmpty()) {
+			return;
+		}
+		writer.write(deltas, this::clearFlushing);
+		clearFlushing();
+	}
+
+	public synchronized void flush(Consumer<Map<Long, Long>> writer) {
+		flush((deltas, written) -> writer.accept(deltas));
+	}
+
+	/**
+	 * 두 세대를 모두 비운다. 종료 시점이나 정합성 보정 작업 직전에 사용한다.
+	 */
+	public synchronized void flushAll(Writer writer) {
+		flush(writer);
+		flush(writer);
+	}
+
+	public synchronized void flushAll(Consumer<Map<Long, Long>> writer) {
+		flushAll((deltas, written) -> writer.accept(deltas));
+	}
+
+	/**
+	 * flush 를 멈춘 채 action 을 실행한다. 그동안 pending 은 아직 DB 에 쓰이지 않은 값만 뜻한다.
+	 */
+	public synchronized <T> T whilePaused(Supplier<T> action) {
+		return action.get();
+	}
+
+	private void clearFlushing() {
+		Generations current = generations;
+		if (!current.flushing().isEmpty()) {
+			generations = new Generations(current.active(), current.retired(), Collections.emptyMap());
+		}
+	}
+
+	private long sum(LongAdder cell) {
+		return cell == null ? 0L : cell.sum();
+	}
+}
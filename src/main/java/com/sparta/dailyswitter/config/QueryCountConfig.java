@@ -0,0 +1,36 @@
+package com.sparta.dailyswitter.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.sparta.dailyswitter.common.query.QueryCountInspector;
+import com.sparta.dailyswitter.common.query.QueryCountInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class QueryCountConfig implements WebMvcConfigurer {
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${query-count.warn-threshold:10}")
+	private int warnThreshold;
+
+	@Bean
+	public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new QueryCountInterceptor(warnThreshold, meterRegistry))
+			.addPathPatterns("/api/**");
+	}
+}
@@ -26,6 +26,7 @@ import com.sparta.dailyswitter.domain.user.repository.UserRepository;
 import com.sparta.dailyswitter.security.JwtAuthenticationFilter;
 import com.sparta.dailyswitter.security.JwtAuthorizationFilter;
 import com.sparta.dailyswitter.security.JwtUtil;
+import com.sparta.dailyswitter.security.PrincipalCache;
 import com.sparta.dailyswitter.security.UserDetailsServiceImpl;
 
 import lombok.RequiredArgsConstructor;
@@ -42,6 +43,7 @@ public class WebSecurityConfig {
 	private final PrincipalOauth2UserService principalOauth2UserService;
 	private final CustomAccessDeniedHandler customAccessDeniedHandler;
 	private final UserRepository userRepository;
+	private final PrincipalCache principalCache;
 
 	@Value("${spring.security.oauth2.client.registration.kakao.client-id}")
 	private String kakaoClientId;
@@ -55,6 +57,10 @@ public class WebSecurityConfig {
 	@Value("${spring.security.oauth2.client.registration.naver.client-secret}")
 	private String naverClientSecret;
 
+	// 별도 관리 포트가 없으면 -1 이다. 관리 포트는 내부망에서만 열려 있어 메트릭 수집을 인증 없이 허용한다.
+	@Value("${management.server.port:-1}")
+	private int managementPort;
+
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 		AuthenticationManager authenticationManager = authenticationManager(authenticationConfiguration);
@@ -71,6 +77,9 @@ public class WebSecurityConfig {
 					"/swagger-resources/**", "/configuration/ui", "/configuration/security", "/swagger-ui/**",
 					"/webjars/**", "/swagger-ui.html", "/api/auth/**", "/login", "/login.html"
 				).permitAll()
+				.requestMatchers("/actuator/health").permitAll()
+				.requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll()
+				.requestMatchers("/actuator/**").hasAuthority(UserRoleEnum.ADMIN.name())
 				.requestMatchers("/security-login/info").authenticated()
 				.requestMatchers("/security-login/admin/**").hasAuthority(UserRoleEnum.ADMIN.name())
 				.anyRequest().authenticated()
@@ -96,8 +105,8 @@ public class WebSecurityConfig {
 				.userInfoEndpoint()
 				.userService(principalOauth2UserService)
 			)
-			.addFilterBefore(new JwtAuthorizationFilter(jwtUtil, userDetailsService, userRepository), UsernamePasswordAuthenticationFilter.class)
-			.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, authenticationManager, userRepository), UsernamePasswordAuthenticationFilter.class);
+			.addFilterBefore(new JwtAuthorizationFilter(jwtUtil, userDetailsService), UsernamePasswordAuthenticationFilter.class)
+			.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, authenticationManager, userRepository, principalCache), UsernamePasswordAuthenticationFilter.class);
 
 		return http.build();
 	}
@@ -1,21 +1,27 @@
 package com.sparta.dailyswitter.domain.admin.comment;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.domain.comment.dto.CommentRequestDto;
 import com.sparta.dailyswitter.domain.comment.dto.CommentResponseDto;
+import com.sparta.dailyswitter.domain.comment.dto.CommentSearchCondition;
 import com.sparta.dailyswitter.domain.comment.service.CommentService;
+import com.sparta.dailyswitter.domain.like.commentlike.service.CommentLikeCounter;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,12 +31,27 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/admin")
 public class AdminCommentController {
 
+	private static final int PAGE_SIZE = 20;
+
 	private final CommentService commentService;
+	private final CommentLikeCounter commentLikeCounter;
 
 	@PreAuthorize("hasRole('ROLE_ADMIN')")
 	@GetMapping("/comments")
-	public ResponseEntity<List<CommentResponseDto>> getAllComments() {
-		return ResponseEntity.ok().body(commentService.getAllComments());
+	public ResponseEntity<CursorResponseDto<CommentResponseDto>> getAdminComments(
+		@ModelAttribute CommentSearchCondition condition,
+		@RequestParam(required = false) String cursor) {
+		return ResponseEntity.ok().body(commentService.getAdminComments(condition, cursor, PAGE_SIZE));
+	}
+
+	@PreAuthorize("hasRole('ROLE_ADMIN')")
+	@GetMapping("/comments/export")
+	public ResponseEntity<StreamingResponseBody> exportAdminComments(
+		@ModelAttribute CommentSearchCondition condition) {
+		StreamingResponseBody body = outputStream -> commentService.exportAdminComments(condition, outputStream);
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType("application/x-ndjson"))
+			.body(body);
 	}
 
 	@PreAuthorize("hasRole('ROLE_ADMIN')")
@@ -49,4 +70,11 @@ public class AdminCommentController {
 		commentService.adminDeleteComment(commentId);
 		return ResponseEntity.ok("댓글이 삭제되었습니다.");
 	}
+
+	@PreAuthorize("hasRole('ROLE_ADMIN')")
+	@PostMapping("/comments/likes/reconcile")
+	public ResponseEntity<String> reconcileCommentLikes() {
+		int count = commentLikeCounter.reconcile();
+		return ResponseEntity.ok("댓글 좋아요 수가 보정되었습니다. (" + count + "건)");
+	}
 }
@@ -0,0 +1,26 @@
+package com.sparta.dailyswitter.domain.admin.feed;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sparta.dailyswitter.domain.feed.service.FeedService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+public class AdminFeedController {
+
+	private final FeedService feedService;
+
+	@PreAuthorize("hasRole('ROLE_ADMIN')")
+	@PostMapping("/feeds/rebuild")
+	public ResponseEntity<String> rebuildFeeds() {
+		int count = feedService.rebuildAll();
+		return ResponseEntity.ok("피드가 재구성되었습니다. (" + count + "건)");
+	}
+}
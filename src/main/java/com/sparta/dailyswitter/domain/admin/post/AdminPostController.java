@@ -8,16 +8,19 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sparta.dailyswitter.domain.post.dto.PostBulkRequestDto;
 import com.sparta.dailyswitter.domain.post.dto.PostRequestDto;
 import com.sparta.dailyswitter.domain.post.dto.PostResponseDto;
 import com.sparta.dailyswitter.domain.post.service.PostService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -36,6 +39,15 @@ public class AdminPostController {
 		return ResponseEntity.ok().body(postService.getAllPosts(pageable));
 	}
 
+	@PreAuthorize("hasRole('ROLE_ADMIN')")
+	@PostMapping("/posts/bulk")
+	public ResponseEntity<String> bulkCreatePosts(
+		@RequestBody @Valid PostBulkRequestDto requestDto) {
+
+		int count = postService.bulkCreatePosts(requestDto);
+		return ResponseEntity.ok("게시물이 일괄 등록되었습니다. (" + count + "건)");
+	}
+
 	@PreAuthorize("hasRole('ROLE_ADMIN')")
 	@GetMapping("/posts/{postId}")
 	public ResponseEntity<?> updatePost(
@@ -1,20 +1,25 @@
 package com.sparta.dailyswitter.domain.admin.user;
 
-import java.util.List;
-
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 
 import com.sparta.dailyswitter.domain.user.dto.UserInfoRequestDto;
 import com.sparta.dailyswitter.domain.user.dto.UserResponseDto;
 import com.sparta.dailyswitter.domain.user.dto.UserRoleChangeRequestDto;
+import com.sparta.dailyswitter.domain.user.service.UserLikedCountReconciler;
 import com.sparta.dailyswitter.domain.user.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -24,12 +29,32 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/admin")
 public class AdminUserController {
 
+	private static final int PAGE_SIZE = 20;
+
 	private final UserService userService;
+	private final UserLikedCountReconciler userLikedCountReconciler;
 
 	@PreAuthorize("hasRole('ROLE_ADMIN')")
 	@GetMapping("/users")
-	public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-		return ResponseEntity.ok().body(userService.getAllUsers());
+	public ResponseEntity<CursorResponseDto<UserResponseDto>> getUsers(
+		@RequestParam(required = false) String cursor) {
+		return ResponseEntity.ok().body(userService.getUsers(cursor, PAGE_SIZE));
+	}
+
+	@PreAuthorize("hasRole('ROLE_ADMIN')")
+	@GetMapping("/users/export")
+	public ResponseEntity<StreamingResponseBody> exportUsers() {
+		StreamingResponseBody body = userService::exportUsers;
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType("application/x-ndjson"))
+			.body(body);
+	}
+
+	@PreAuthorize("hasRole('ROLE_ADMIN')")
+	@PostMapping("/users/likes/reconcile")
+	public ResponseEntity<String> reconcileLikedCounts() {
+		int count = userLikedCountReconciler.reconcile();
+		return ResponseEntity.ok("사용자 좋아요 수가 보정되었습니다. (" + count + "건)");
 	}
 
 	@PreAuthorize("hasRole('ROLE_ADMIN')")
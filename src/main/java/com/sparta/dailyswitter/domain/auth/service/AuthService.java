@@ -22,8 +22,10 @@ import com.sparta.dailyswitter.domain.user.entity.User;
 import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
 import com.sparta.dailyswitter.domain.user.repository.UserRepository;
 import com.sparta.dailyswitter.security.JwtUtil;
+import com.sparta.dailyswitter.security.PrincipalCache;
 
 import io.jsonwebtoken.io.IOException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -37,7 +39,9 @@ public class AuthService {
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtUtil jwtUtil;
+	private final PrincipalCache principalCache;
 
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional
 	public User signup(SignupRequestDto requestDto) throws IOException {
 		String userId = requestDto.getUserId();
@@ -74,6 +78,7 @@ public class AuthService {
 		return userRepository.save(user);
 	}
 
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional
 	public LoginResponseDto login(@RequestBody LoginRequestDto requestDto) {
 		User user = this.userRepository.findByUserId(requestDto.getUserId()).orElseThrow(
@@ -88,26 +93,45 @@ public class AuthService {
 		String refreshToken = jwtUtil.createRefreshToken(requestDto.getUserId());
 		user.updateRefresh(refreshToken);
 		userRepository.save(user);
+		principalCache.evict(user.getUserId());
 
 		return new LoginResponseDto(token, refreshToken, "로그인에 성공했습니다.");
 	}
 
+	/**
+	 * 인증 객체의 User 는 PrincipalCache 가 여러 요청에 공유하는 인스턴스이므로 직접 고치지 않고,
+	 * 트랜잭션 안에서 행을 다시 읽어 바꾼 뒤 캐시를 비운다.
+	 */
+	@Timed(value = "dailyswitter.service", histogram = true)
+	@Transactional
 	public void logout(User user) {
-		user.updateRefresh(null);
-		userRepository.save(user);
+		User current = findCurrentUser(user);
+		current.updateRefresh(null);
+		userRepository.save(current);
+		principalCache.evict(current.getUserId());
 	}
 
+	@Timed(value = "dailyswitter.service", histogram = true)
+	@Transactional
 	public void signout(SignoutRequestDto requestDto, User user) {
-		if (!user.isExist()) {
+		User current = findCurrentUser(user);
+		if (!current.isExist()) {
 			throw new CustomException(ErrorCode.USER_NOT_FOUND);
 		}
 
 		String password = requestDto.getPassword();
-		if (!passwordEncoder.matches(password, user.getPassword())) {
+		if (!passwordEncoder.matches(password, current.getPassword())) {
 			throw new CustomException(ErrorCode.INCORRECT_PASSWORD);
 		}
 
-		user.updateStatusSignout();
-		userRepository.save(user);
+		current.updateStatusSignout();
+		userRepository.save(current);
+		principalCache.evict(current.getUserId());
+	}
+
+	private User findCurrentUser(User user) {
+		return userRepository.findById(user.getId()).orElseThrow(
+			() -> new CustomException(ErrorCode.USER_NOT_FOUND)
+		);
 	}
 }
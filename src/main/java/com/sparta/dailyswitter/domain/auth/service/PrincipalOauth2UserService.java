@@ -16,6 +16,7 @@ import com.sparta.dailyswitter.domain.user.entity.User;
 import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
 import com.sparta.dailyswitter.domain.user.repository.UserRepository;
 import com.sparta.dailyswitter.security.JwtUtil;
+import com.sparta.dailyswitter.security.PrincipalCache;
 import com.sparta.dailyswitter.security.UserDetailsImpl;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class PrincipalOauth2UserService extends DefaultOAuth2UserService {
 
 	private final UserRepository userRepository;
 	private final JwtUtil jwtUtil;
+	private final PrincipalCache principalCache;
 
 	@Override
 	public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -78,6 +80,7 @@ public class PrincipalOauth2UserService extends DefaultOAuth2UserService {
 		user.updateAccessToken(accessToken);
 		user.updateRefresh(refreshToken);
 		userRepository.save(user);
+		principalCache.evict(user.getUserId());
 
 		log.info("JWT 토큰 생성 및 사용자 정보 저장 완료");
 		UserDetailsImpl userDetails = new UserDetailsImpl(user, oAuth2User.getAttributes());
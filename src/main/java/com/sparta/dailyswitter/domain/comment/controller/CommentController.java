@@ -1,7 +1,5 @@
 package com.sparta.dailyswitter.domain.comment.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -12,8 +10,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.domain.comment.dto.CommentRequestDto;
 import com.sparta.dailyswitter.domain.comment.dto.CommentResponseDto;
 import com.sparta.dailyswitter.domain.comment.service.CommentService;
@@ -27,6 +27,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CommentController {
 
+	private static final int PAGE_SIZE = 20;
+
 	private final CommentService commentService;
 
 	@PostMapping("/posts/{postId}/comments")
@@ -39,9 +41,10 @@ public class CommentController {
 	}
 
 	@GetMapping("/posts/{postId}/comments")
-	public ResponseEntity<List<CommentResponseDto>> getComment(@PathVariable Long postId) {
+	public ResponseEntity<CursorResponseDto<CommentResponseDto>> getComments(@PathVariable Long postId,
+		@RequestParam(required = false) String cursor) {
 		return ResponseEntity.status(HttpStatus.OK)
-			.body(commentService.getComment(postId));
+			.body(commentService.getComments(postId, cursor, PAGE_SIZE));
 	}
 
 	@PutMapping("/posts/{postId}/comments/{commentId}")
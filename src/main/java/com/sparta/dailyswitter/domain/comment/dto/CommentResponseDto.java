@@ -1,6 +1,11 @@
 package com.sparta.dailyswitter.domain.comment.dto;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.sparta.dailyswitter.domain.comment.entity.Comment;
+import com.sparta.dailyswitter.domain.comment.entity.QComment;
+import com.sparta.dailyswitter.domain.post.entity.QPost;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +14,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 public class CommentResponseDto {
+	private Long id;
 	private String postTitle;
 	private String content;
 	private String userId;
@@ -18,6 +24,7 @@ public class CommentResponseDto {
 
 	@Builder
 	public CommentResponseDto(Comment comment) {
+		this.id = comment.getId();
 		this.postTitle = comment.getPost().getTitle();
 		this.content = comment.getContent();
 		this.userId = comment.getUser().getUserId();
@@ -25,4 +32,55 @@ public class CommentResponseDto {
 		this.createdAt = comment.getCreatedAt();
 		this.updatedAt = comment.getUpdatedAt();
 	}
-}
\ No newline at end of file
+
+	public CommentResponseDto(Long id, String postTitle, String content, String userId, Long commentLikes,
+		LocalDateTime createdAt, LocalDateTime updatedAt) {
+		this.id = id;
+		this.postTitle = postTitle;
+		this.content = content;
+		this.userId = userId;
+		this.commentLikes = commentLikes;
+		this.createdAt = createdAt;
+		this.updatedAt = updatedAt;
+	}
+
+	public CommentResponseDto(Long id, String content, String userId, Long commentLikes,
+		LocalDateTime createdAt, LocalDateTime updatedAt) {
+		this(id, null, content, userId, commentLikes, createdAt, updatedAt);
+	}
+
+	public void applyPostTitle(String postTitle) {
+		this.postTitle = postTitle;
+	}
+
+	public void applyPendingLikes(long pendingLikes) {
+		this.commentLikes = this.commentLikes + pendingLikes;
+	}
+
+	/**
+	 * comment, post, 작성자(user)가 조인된 쿼리에서 응답 컬럼만 조회하는 프로젝션.
+	 */
+	public static ConstructorExpression<CommentResponseDto> projection(QComment comment, QPost post, QUser user) {
+		return Projections.constructor(CommentResponseDto.class,
+			comment.id,
+			post.title,
+			comment.content,
+			user.userId,
+			comment.commentLikes,
+			comment.createdAt,
+			comment.updatedAt);
+	}
+
+	/**
+	 * 한 게시물의 댓글 목록용 프로젝션. 게시물 제목은 페이지마다 한 번 조회해 applyPostTitle 로 채운다.
+	 */
+	public static ConstructorExpression<CommentResponseDto> projection(QComment comment, QUser user) {
+		return Projections.constructor(CommentResponseDto.class,
+			comment.id,
+			comment.content,
+			user.userId,
+			comment.commentLikes,
+			comment.createdAt,
+			comment.updatedAt);
+	}
+}
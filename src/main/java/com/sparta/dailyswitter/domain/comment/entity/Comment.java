@@ -11,8 +11,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,12 +22,16 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+	@Index(name = "idx_comment_created_id", columnList = "created_at, id"),
+	@Index(name = "idx_comment_post_created_id", columnList = "post_id, created_at, id")
+})
 @NoArgsConstructor
 public class Comment extends Timestamped {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+	@SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -39,7 +45,8 @@ public class Comment extends Timestamped {
 	@Column
 	private String content;
 
-	@Column
+	// 좋아요 수는 CommentLikeCounter 가 상대값 UPDATE 로만 변경한다.
+	@Column(updatable = false)
 	private Long commentLikes;
 
 	@Builder
@@ -55,14 +62,6 @@ public class Comment extends Timestamped {
 		this.content = requestDto.getContent();
 	}
 
-	public void addCommentLikes() {
-		this.commentLikes = commentLikes + 1L;
-	}
-
-	public void subCommentLikes() {
-		this.commentLikes = commentLikes - 1L;
-	}
-
 	public String getPostTitle() {
 		return post.getTitle();
 	}
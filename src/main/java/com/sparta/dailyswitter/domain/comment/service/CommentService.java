@@ -3,18 +3,30 @@ package com.sparta.dailyswitter.domain.comment.service;
 import static com.sparta.dailyswitter.common.exception.ErrorCode.COMMENT_NOT_FOUND;
 import static com.sparta.dailyswitter.common.exception.ErrorCode.COMMENT_NOT_USER;
 import static com.sparta.dailyswitter.common.exception.ErrorCode.COMMENT_SAME_USER;
+import static com.sparta.dailyswitter.common.exception.ErrorCode.POST_NOT_FOUND;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.common.exception.CustomException;
+import com.sparta.dailyswitter.common.util.Cursor;
 import com.sparta.dailyswitter.domain.comment.dto.CommentRequestDto;
 import com.sparta.dailyswitter.domain.comment.dto.CommentResponseDto;
+import com.sparta.dailyswitter.domain.comment.dto.CommentSearchCondition;
 import com.sparta.dailyswitter.domain.comment.entity.Comment;
 import com.sparta.dailyswitter.domain.comment.entity.QComment;
 import com.sparta.dailyswitter.domain.comment.repository.CommentRepository;
+import com.sparta.dailyswitter.domain.like.commentlike.service.CommentLikeCounter;
 import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.post.entity.QPost;
 import com.sparta.dailyswitter.domain.post.service.PostService;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
 import com.sparta.dailyswitter.domain.user.entity.User;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,10 +36,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
     private final PostService postService;
     private final CommentRepository commentRepository;
     private final JPAQueryFactory jpaQueryFactory;
+    private final CommentLikeCounter commentLikeCounter;
+    private final ObjectMapper objectMapper;
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional
     public CommentResponseDto createComment(Long postId, CommentRequestDto requestDto, User user) {
         Post post = postService.findById(postId);
@@ -37,40 +54,88 @@ public class CommentService {
             .requestDto(requestDto)
             .build();
 
+        // comment INSERT 의 FK 검사가 post 행에 공유 잠금을 걸기 전에 배타 잠금부터 잡아, 같은 게시물에 동시에 댓글을 달 때 교착을 막는다.
+        postService.increaseCommentCount(postId);
         commentRepository.save(comment);
-        return CommentResponseDto.builder()
-            .comment(comment)
-            .build();
+        return convertToDto(comment);
     }
 
-    public List<CommentResponseDto> getComment(Long postId) {
+    @Timed(value = "dailyswitter.service", histogram = true)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentResponseDto> getComments(Long postId, String cursor, int size) {
+        QPost qPost = QPost.post;
         QComment qComment = QComment.comment;
-        BooleanExpression booleanExpression = qComment.post.id.eq(postId);
-        List<Comment> commentList = jpaQueryFactory.selectFrom(qComment)
-            .where(booleanExpression)
+        QUser qUser = QUser.user;
+
+        String postTitle = jpaQueryFactory.select(qPost.title)
+            .from(qPost)
+            .where(qPost.id.eq(postId))
+            .fetchOne();
+        if (postTitle == null) {
+            throw new CustomException(POST_NOT_FOUND);
+        }
+
+        List<CommentResponseDto> comments = jpaQueryFactory
+            .select(CommentResponseDto.projection(qComment, qUser))
+            .from(qComment)
+            .join(qComment.user, qUser)
+            .where(qComment.post.id.eq(postId), commentCursorCondition(qComment, cursor))
+            .orderBy(qComment.createdAt.asc(), qComment.id.asc())
+            .limit(size + 1)
             .fetch();
 
-        if (commentList.isEmpty()) {
+        if (comments.isEmpty() && (cursor == null || cursor.isBlank())) {
             throw new CustomException(COMMENT_NOT_FOUND);
         }
-        return commentList.stream()
-            .map(comment -> CommentResponseDto.builder()
-                .comment(comment)
-                .build())
-            .toList();
+        comments.forEach(comment -> comment.applyPostTitle(postTitle));
+        applyPendingLikes(comments);
+
+        return CursorResponseDto.of(comments, size,
+            comment -> Cursor.encode(comment.getCreatedAt(), comment.getId()));
     }
 
-    public List<CommentResponseDto> getAllComments() {
-        QComment qComment = QComment.comment;
-        List<Comment> comments = jpaQueryFactory.selectFrom(qComment)
-            .orderBy(qComment.createdAt.desc())
-            .fetch();
+    @Timed(value = "dailyswitter.service", histogram = true)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentResponseDto> getAdminComments(CommentSearchCondition condition,
+        String cursor, int size) {
+        LocalDateTime lastCreatedAt = null;
+        Long lastId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            Cursor decoded = Cursor.decode(cursor, 2);
+            lastCreatedAt = decoded.getDateTime(0);
+            lastId = decoded.getLong(1);
+        }
+
+        List<CommentResponseDto> comments = fetchAdminComments(condition, lastCreatedAt, lastId, size + 1);
+        return CursorResponseDto.of(comments, size,
+            comment -> Cursor.encode(comment.getCreatedAt(), comment.getId()));
+    }
 
-        return comments.stream()
-            .map(CommentResponseDto::new)
-            .toList();
+    /**
+     * 조건에 맞는 댓글을 최신순으로 EXPORT_CHUNK_SIZE 씩 끊어 읽으며 한 줄에 하나씩 JSON 으로 쓴다.
+     */
+    @Timed(value = "dailyswitter.service", histogram = true)
+    public void exportAdminComments(CommentSearchCondition condition, OutputStream outputStream)
+        throws IOException {
+        LocalDateTime lastCreatedAt = null;
+        Long lastId = null;
+        List<CommentResponseDto> chunk;
+        do {
+            chunk = fetchAdminComments(condition, lastCreatedAt, lastId, EXPORT_CHUNK_SIZE);
+            for (CommentResponseDto comment : chunk) {
+                outputStream.write(objectMapper.writeValueAsBytes(comment));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+            if (!chunk.isEmpty()) {
+                CommentResponseDto last = chunk.get(chunk.size() - 1);
+                lastCreatedAt = last.getCreatedAt();
+                lastId = last.getId();
+            }
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional
     public CommentResponseDto updateComment(Long postId, Long commentId,
         CommentRequestDto requestDto, User user) {
@@ -82,11 +147,10 @@ public class CommentService {
         checkCommentUserNotFound(comment, user);
         comment.updateComment(requestDto);
 
-        return CommentResponseDto.builder()
-            .comment(comment)
-            .build();
+        return convertToDto(comment);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional
     public CommentResponseDto adminUpdateComment(Long commentId, CommentRequestDto requestDto) {
         Comment comment = commentRepository.findById(commentId)
@@ -94,11 +158,10 @@ public class CommentService {
 
         comment.updateComment(requestDto);
 
-        return CommentResponseDto.builder()
-            .comment(comment)
-            .build();
+        return convertToDto(comment);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional
     public void deleteComment(Long postId, Long commentId, User user) {
         Post post = postService.findById(postId);
@@ -107,6 +170,7 @@ public class CommentService {
 
         checkCommentPostNotFound(comment, post);
         checkCommentUserNotFound(comment, user);
+        postService.decreaseCommentCount(postId);
         commentRepository.delete(comment);
     }
 
@@ -116,6 +180,56 @@ public class CommentService {
             );
     }
 
+    private List<CommentResponseDto> fetchAdminComments(CommentSearchCondition condition,
+        LocalDateTime lastCreatedAt, Long lastId, int limit) {
+        QComment qComment = QComment.comment;
+        QPost qPost = QPost.post;
+        QUser qUser = QUser.user;
+
+        List<CommentResponseDto> comments = jpaQueryFactory
+            .select(CommentResponseDto.projection(qComment, qPost, qUser))
+            .from(qComment)
+            .join(qComment.post, qPost)
+            .join(qComment.user, qUser)
+            .where(
+                condition.getPostId() == null ? null : qComment.post.id.eq(condition.getPostId()),
+                condition.getUserId() == null ? null : qComment.user.id.eq(condition.getUserId()),
+                condition.getFrom() == null ? null : qComment.createdAt.goe(condition.getFrom()),
+                condition.getTo() == null ? null : qComment.createdAt.lt(condition.getTo()),
+                lastId == null ? null : qComment.createdAt.lt(lastCreatedAt)
+                    .or(qComment.createdAt.eq(lastCreatedAt).and(qComment.id.lt(lastId))))
+            .orderBy(qComment.createdAt.desc(), qComment.id.desc())
+            .limit(limit)
+            .fetch();
+        applyPendingLikes(comments);
+        return comments;
+    }
+
+    private BooleanExpression commentCursorCondition(QComment qComment, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        Cursor decoded = Cursor.decode(cursor, 2);
+        LocalDateTime createdAt = decoded.getDateTime(0);
+        Long id = decoded.getLong(1);
+
+        // (post_id, created_at, id) 인덱스 순서대로 커서 이후의 댓글만 조회
+        return qComment.createdAt.gt(createdAt)
+            .or(qComment.createdAt.eq(createdAt).and(qComment.id.gt(id)));
+    }
+
+    private void applyPendingLikes(List<CommentResponseDto> comments) {
+        comments.forEach(comment -> comment.applyPendingLikes(commentLikeCounter.pending(comment.getId())));
+    }
+
+    public CommentResponseDto convertToDto(Comment comment) {
+        CommentResponseDto responseDto = CommentResponseDto.builder()
+            .comment(comment)
+            .build();
+        responseDto.applyPendingLikes(commentLikeCounter.pending(comment.getId()));
+        return responseDto;
+    }
+
     public void checkCommentPostNotFound(Comment comment, Post post) {
         if (!comment.getPost().getId().equals(post.getId())) {
             throw new CustomException(COMMENT_NOT_FOUND);
@@ -134,11 +248,13 @@ public class CommentService {
         }
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional
     public void adminDeleteComment(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
             .orElseThrow(() -> new CustomException(COMMENT_NOT_FOUND));
 
+        postService.decreaseCommentCount(comment.getPost().getId());
         commentRepository.delete(comment);
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.sparta.dailyswitter.domain.feed.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팔로워별로 미리 펼쳐 둔(fan-out) 홈 피드 항목.
+ * 행은 FeedRepository 의 INSERT IGNORE ... SELECT 로만 생성되고, 한 사용자의 피드에 같은 게시물은 한 번만 들어간다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "feed", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_feed_user_post", columnNames = {"user_id", "post_id"})
+}, indexes = {
+	@Index(name = "idx_feed_user_created", columnList = "user_id, created_at"),
+	@Index(name = "idx_feed_user_author", columnList = "user_id, author_id"),
+	@Index(name = "idx_feed_post", columnList = "post_id")
+})
+public class Feed {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "post_id", nullable = false)
+	private Long postId;
+
+	@Column(name = "author_id", nullable = false)
+	private Long authorId;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+}
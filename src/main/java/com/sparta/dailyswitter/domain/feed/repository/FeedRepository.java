@@ -0,0 +1,79 @@
+package com.sparta.dailyswitter.domain.feed.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparta.dailyswitter.domain.feed.entity.Feed;
+
+/**
+ * feed 행은 (user_id, post_id) 유일 제약으로 한 번만 들어간다.
+ * 펼치는 INSERT 는 모두 INSERT IGNORE 라, 겹쳐 실행되어도 이미 있는 항목은 건너뛴다.
+ */
+public interface FeedRepository extends JpaRepository<Feed, Long> {
+
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO feed (user_id, post_id, author_id, created_at) "
+		+ "SELECT f.follower_user_id, :postId, :authorId, :createdAt FROM follows f "
+		+ "WHERE f.following_user_id = :authorId", nativeQuery = true)
+	int fanOut(@Param("postId") Long postId, @Param("authorId") Long authorId,
+		@Param("createdAt") LocalDateTime createdAt);
+
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO feed (user_id, post_id, author_id, created_at) "
+		+ "SELECT :userId, p.id, p.user_id, p.created_at FROM post p "
+		+ "WHERE p.user_id = :authorId "
+		+ "ORDER BY p.created_at DESC LIMIT :limit", nativeQuery = true)
+	int backfill(@Param("userId") Long userId, @Param("authorId") Long authorId, @Param("limit") int limit);
+
+	// 작성자의 최근 게시물 limit 건을 모든 팔로워 피드에 채운다. 이미 있는 항목은 건너뛴다.
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO feed (user_id, post_id, author_id, created_at) "
+		+ "SELECT f.follower_user_id, p.id, p.user_id, p.created_at FROM follows f "
+		+ "JOIN (SELECT id, user_id, created_at FROM post WHERE user_id = :authorId "
+		+ "ORDER BY created_at DESC LIMIT :limit) p ON p.user_id = f.following_user_id "
+		+ "WHERE f.following_user_id = :authorId", nativeQuery = true)
+	int backfillFollowers(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+	/**
+	 * follower id 가 from 초과 to 이하인 팔로워의 피드를 다시 펼친다. pull 작성자의 게시물은 펼치지 않는다.
+	 * excludedAuthorIds 는 비어 있으면 안 된다.
+	 */
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO feed (user_id, post_id, author_id, created_at) "
+		+ "SELECT f.follower_user_id, p.id, p.user_id, p.created_at FROM follows f "
+		+ "JOIN post p ON p.user_id = f.following_user_id "
+		+ "WHERE f.follower_user_id > :fromId AND f.follower_user_id <= :toId "
+		+ "AND f.following_user_id NOT IN (:excludedAuthorIds)", nativeQuery = true)
+	int fanOutFollowers(@Param("fromId") long fromId, @Param("toId") long toId,
+		@Param("excludedAuthorIds") Collection<Long> excludedAuthorIds);
+
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO feed (user_id, post_id, author_id, created_at) "
+		+ "SELECT f.follower_user_id, p.id, p.user_id, p.created_at FROM follows f "
+		+ "JOIN post p ON p.user_id = f.following_user_id "
+		+ "WHERE p.id IN (:postIds)", nativeQuery = true)
+	int fanOutPosts(@Param("postIds") List<Long> postIds);
+
+	@Query(value = "SELECT COALESCE(MAX(id), 0) FROM users", nativeQuery = true)
+	long findMaxUserId();
+
+	@Modifying
+	@Query("delete from Feed f where f.userId > :fromId and f.userId <= :toId")
+	int deleteByUserIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+	@Modifying
+	@Query("delete from Feed f where f.userId = :userId and f.authorId = :authorId")
+	int deleteByUserIdAndAuthorId(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+	@Modifying
+	@Query("delete from Feed f where f.postId = :postId")
+	int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,178 @@
+package com.sparta.dailyswitter.domain.feed.service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.domain.feed.repository.FeedRepository;
+import com.sparta.dailyswitter.common.util.SortedLongSet;
+import com.sparta.dailyswitter.domain.follow.service.FollowGraphCache;
+import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팔로우 피드를 쓰기 시점에 팔로워별 feed 테이블로 펼친다(fan-out-on-write).
+ * 팔로워 수가 임계치를 넘는 작성자는 펼치지 않고, 조회 시점에 게시물을 직접 끌어온다(pull).
+ * pull 작성자 목록은 웹 서버가 요청을 받기 전에 한 번 읽어 두어, 기동 직후의 게시물도 팔로워 수 많은 작성자면 펼치지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedService implements SmartInitializingSingleton {
+
+	private static final int BACKFILL_SIZE = 100;
+	// NOT IN () 은 문법 오류라 제외할 작성자가 없을 때는 쓰이지 않는 id 0 을 넘긴다.
+	private static final Set<Long> NO_AUTHOR = Set.of(0L);
+
+	private final FeedRepository feedRepository;
+	private final JPAQueryFactory jpaQueryFactory;
+	private final FollowGraphCache followGraphCache;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${feed.fan-out-threshold:10000}")
+	private long fanOutThreshold;
+
+	@Value("${feed.rebuild-batch-size:1000}")
+	private int rebuildBatchSize;
+
+	@Value("${feed.bulk-fan-out-chunk-size:10}")
+	private int bulkFanOutChunkSize;
+
+	private volatile Set<Long> pullAuthorIds = Collections.emptySet();
+
+	@Transactional
+	public void fanOut(Post post) {
+		Long authorId = post.getUser().getId();
+		if (isPullAuthor(authorId)) {
+			return;
+		}
+		feedRepository.fanOut(post.getId(), authorId, post.getCreatedAt());
+	}
+
+	/**
+	 * 대량 등록된 게시물을 bulkFanOutChunkSize 건씩 나눠 펼친다. 묶음마다 트랜잭션을 따로 커밋해,
+	 * 한 문장이 만드는 행은 (묶음 크기 x 팔로워 수) 를 넘지 않고 잠금과 undo 도 그 묶음만큼만 쌓인다.
+	 * 게시물 등록 트랜잭션이 커밋된 뒤에 호출해야 한다.
+	 */
+	public void fanOut(List<Post> posts) {
+		List<Long> postIds = posts.stream()
+			.filter(post -> !isPullAuthor(post.getUser().getId()))
+			.map(Post::getId)
+			.toList();
+		for (int from = 0; from < postIds.size(); from += bulkFanOutChunkSize) {
+			List<Long> chunk = postIds.subList(from, Math.min(from + bulkFanOutChunkSize, postIds.size()));
+			transactionTemplate.executeWithoutResult(status -> feedRepository.fanOutPosts(chunk));
+		}
+	}
+
+	@Transactional
+	public void onFollow(Long followerUserId, Long followingUserId) {
+		if (isPullAuthor(followingUserId)) {
+			return;
+		}
+		feedRepository.backfill(followerUserId, followingUserId, BACKFILL_SIZE);
+	}
+
+	@Transactional
+	public void onUnfollow(Long followerUserId, Long followingUserId) {
+		feedRepository.deleteByUserIdAndAuthorId(followerUserId, followingUserId);
+	}
+
+	@Transactional
+	public void onPostDeleted(Long postId) {
+		feedRepository.deleteByPostId(postId);
+	}
+
+	/**
+	 * 팔로워 id 구간마다 트랜잭션을 나눠 그 구간 사용자의 피드를 지우고 다시 펼친다.
+	 * 재구성 중에도 다른 구간의 피드는 그대로 읽히고, 한 구간은 커밋 전까지 이전 피드가 보인다.
+	 */
+	public int rebuildAll() {
+		Set<Long> excludedAuthorIds = pullAuthorIds.isEmpty() ? NO_AUTHOR : pullAuthorIds;
+		long maxUserId = feedRepository.findMaxUserId();
+		int rebuilt = 0;
+		for (long from = 0; from < maxUserId; from += rebuildBatchSize) {
+			long lower = from;
+			long upper = from + rebuildBatchSize;
+			Integer inserted = transactionTemplate.execute(status -> {
+				feedRepository.deleteByUserIdRange(lower, upper);
+				return feedRepository.fanOutFollowers(lower, upper, excludedAuthorIds);
+			});
+			rebuilt += inserted == null ? 0 : inserted;
+		}
+		log.info("Feed rebuilt: {} rows", rebuilt);
+		return rebuilt;
+	}
+
+	@Transactional(readOnly = true)
+	public List<Long> getFollowedPullAuthorIds(Long followerUserId) {
+		Set<Long> authorIds = pullAuthorIds;
+		if (authorIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		SortedLongSet followingIds = followGraphCache.getFollowingIds(followerUserId);
+		return authorIds.stream()
+			.filter(followingIds::contains)
+			.toList();
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		refreshPullAuthors();
+	}
+
+	@Scheduled(fixedDelayString = "${feed.pull-author-refresh-ms:300000}",
+		initialDelayString = "${feed.pull-author-refresh-ms:300000}")
+	public void refreshPullAuthors() {
+		// follows 를 집계하지 않고 users.follower_count 인덱스 범위만 읽는다.
+		QUser qUser = QUser.user;
+		List<Long> authorIds = jpaQueryFactory.select(qUser.id)
+			.from(qUser)
+			.where(qUser.followerCount.gt(fanOutThreshold))
+			.fetch();
+		Set<Long> previous = pullAuthorIds;
+		Set<Long> refreshed = Set.copyOf(authorIds);
+		pullAuthorIds = refreshed;
+
+		// 팔로워가 줄어 push 로 돌아온 작성자는 pull 이던 동안 펼쳐지지 않은 최근 게시물을 팔로워 피드에 채운다.
+		// 채우지 못한 작성자는 pull 로 남겨 조회가 계속 게시물을 끌어오게 하고, 다음 갱신에서 다시 시도한다.
+		Set<Long> failed = previous.stream()
+			.filter(authorId -> !refreshed.contains(authorId))
+			.filter(authorId -> !backfillFollowers(authorId))
+			.collect(Collectors.toSet());
+		if (!failed.isEmpty()) {
+			Set<Long> retained = new HashSet<>(refreshed);
+			retained.addAll(failed);
+			pullAuthorIds = Set.copyOf(retained);
+		}
+		log.debug("Pull authors refreshed: {}", pullAuthorIds.size());
+	}
+
+	private boolean backfillFollowers(Long authorId) {
+		try {
+			int inserted = feedRepository.backfillFollowers(authorId, BACKFILL_SIZE);
+			log.info("Author {} moved to push, backfilled {} feed rows", authorId, inserted);
+			return true;
+		} catch (RuntimeException e) {
+			log.error("Feed backfill failed for author {}", authorId, e);
+			return false;
+		}
+	}
+
+	private boolean isPullAuthor(Long authorId) {
+		return pullAuthorIds.contains(authorId);
+	}
+}
@@ -3,15 +3,19 @@ package com.sparta.dailyswitter.domain.follow.controller;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.common.exception.CustomException;
 import com.sparta.dailyswitter.common.exception.ErrorCode;
 import com.sparta.dailyswitter.domain.follow.dto.FollowRequestDto;
 import com.sparta.dailyswitter.domain.follow.dto.FollowResponseDto;
+import com.sparta.dailyswitter.domain.follow.dto.FollowUserResponseDto;
 import com.sparta.dailyswitter.domain.follow.service.FollowService;
 import com.sparta.dailyswitter.security.UserDetailsImpl;
 
@@ -22,6 +26,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class FollowController {
 
+	private static final int PAGE_SIZE = 20;
+
 	private final FollowService followService;
 
 	@PostMapping
@@ -41,4 +47,22 @@ public class FollowController {
 		followService.unfollowUser(userDetails.getUser().getId(), followRequestDto.getFollowing_user_id());
 		return ResponseEntity.ok("팔로우가 취소되었습니다.");
 	}
+
+	@GetMapping("/followers")
+	public ResponseEntity<CursorResponseDto<FollowUserResponseDto>> getFollowers(
+		@RequestParam(required = false) String cursor, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+		if (userDetails == null || userDetails.getUser() == null) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		return ResponseEntity.ok(followService.getFollowers(userDetails.getUser().getId(), cursor, PAGE_SIZE));
+	}
+
+	@GetMapping("/following")
+	public ResponseEntity<CursorResponseDto<FollowUserResponseDto>> getFollowing(
+		@RequestParam(required = false) String cursor, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+		if (userDetails == null || userDetails.getUser() == null) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		return ResponseEntity.ok(followService.getFollowing(userDetails.getUser().getId(), cursor, PAGE_SIZE));
+	}
 }
@@ -0,0 +1,34 @@
+package com.sparta.dailyswitter.domain.follow.dto;
+
+import java.time.LocalDateTime;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.sparta.dailyswitter.domain.follow.entity.QFollow;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팔로워/팔로잉 목록의 한 행. 사용자 엔티티 대신 목록에 필요한 컬럼만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class FollowUserResponseDto {
+	private Long id;
+	private String userId;
+	private String username;
+	private LocalDateTime followedAt;
+
+	/**
+	 * follows 와 목록에 표시할 상대 사용자(user)가 조인된 쿼리에서 응답 컬럼만 조회하는 프로젝션.
+	 */
+	public static ConstructorExpression<FollowUserResponseDto> projection(QFollow follow, QUser user) {
+		return Projections.constructor(FollowUserResponseDto.class,
+			user.id,
+			user.userId,
+			user.username,
+			follow.createdAt);
+	}
+}
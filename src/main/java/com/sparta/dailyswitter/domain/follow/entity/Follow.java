@@ -3,37 +3,37 @@ package com.sparta.dailyswitter.domain.follow.entity;
 import com.sparta.dailyswitter.common.util.Timestamped;
 import com.sparta.dailyswitter.domain.user.entity.User;
 
+import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
 import jakarta.persistence.Table;
-import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 등록/삭제는 FollowRepository 의 단일 INSERT/DELETE 로만 한다. 중복은 (follower, following) PK 가 막는다.
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "follows")
+@Table(name = "follows", indexes = {
+	@Index(name = "idx_follows_following_created", columnList = "following_user_id, created_at, follower_user_id"),
+	@Index(name = "idx_follows_follower_created", columnList = "follower_user_id, created_at, following_user_id")
+})
 public class Follow extends Timestamped {
-	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
-	private Long id;
 
-	@ManyToOne
-	@JoinColumn(name = "following_user_id")
-	private User followingUser;
+	@EmbeddedId
+	private FollowId id;
 
-	@ManyToOne
+	@MapsId("followerUserId")
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "follower_user_id")
 	private User followerUser;
 
-	@Builder
-	public Follow(User followingUser, User followerUser) {
-		this.followingUser = followingUser;
-		this.followerUser = followerUser;
-	}
+	@MapsId("followingUserId")
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "following_user_id")
+	private User followingUser;
 }
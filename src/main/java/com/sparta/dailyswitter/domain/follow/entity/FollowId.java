@@ -0,0 +1,29 @@
+package com.sparta.dailyswitter.domain.follow.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@NoArgsConstructor
+public class FollowId implements Serializable {
+
+	@Column(name = "follower_user_id")
+	private Long followerUserId;
+
+	@Column(name = "following_user_id")
+	private Long followingUserId;
+
+	@Builder
+	public FollowId(Long followerUserId, Long followingUserId) {
+		this.followerUserId = followerUserId;
+		this.followingUserId = followingUserId;
+	}
+}
@@ -1,16 +1,32 @@
 package com.sparta.dailyswitter.domain.follow.repository;
 
-import java.util.List;
-
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.sparta.dailyswitter.domain.follow.entity.Follow;
-import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.follow.entity.FollowId;
 
 @Repository
-public interface FollowRepository extends JpaRepository<Follow, Long>, QuerydslPredicateExecutor<Follow> {
-	List<Follow> findAllByFollowerUser(User followerUser);
-	Follow findByFollowerUserAndFollowingUser(User followerUser, User followingUser);
+public interface FollowRepository extends JpaRepository<Follow, FollowId>, QuerydslPredicateExecutor<Follow> {
+
+	// 대상 사용자가 존재하고 아직 팔로우하지 않았을 때만 등록한다. 그 외에는 0 을 반환한다.
+	// 동시에 같은 팔로우가 들어오면 한쪽은 (follower, following) PK 충돌로 DataIntegrityViolationException 이 난다.
+	@Modifying
+	@Query(value = "INSERT INTO follows (follower_user_id, following_user_id, created_at, updated_at) "
+		+ "SELECT :followerUserId, u.id, CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6) FROM users u "
+		+ "WHERE u.id = :followingUserId AND NOT EXISTS (SELECT 1 FROM follows f "
+		+ "WHERE f.follower_user_id = :followerUserId AND f.following_user_id = :followingUserId)",
+		nativeQuery = true)
+	int insertIfAbsent(@Param("followerUserId") Long followerUserId,
+		@Param("followingUserId") Long followingUserId);
+
+	@Modifying
+	@Query(value = "DELETE FROM follows WHERE follower_user_id = :followerUserId "
+		+ "AND following_user_id = :followingUserId", nativeQuery = true)
+	int deleteIfPresent(@Param("followerUserId") Long followerUserId,
+		@Param("followingUserId") Long followingUserId);
 }
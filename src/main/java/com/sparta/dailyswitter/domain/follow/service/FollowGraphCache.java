@@ -0,0 +1,80 @@
+package com.sparta.dailyswitter.domain.follow.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.util.ExpireAfterCreate;
+import com.sparta.dailyswitter.common.util.SortedLongSet;
+import com.sparta.dailyswitter.domain.follow.entity.QFollow;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 사용자별 팔로잉 id 를 SortedLongSet 으로 보관하는 노드 로컬 캐시. 피드의 pull 작성자 조회에 쓴다.
+ * 처음 조회할 때 follows 테이블에서 읽어 오고, 보관 중인 id 개수 기준으로 오래 안 쓴 항목부터 밀어낸다.
+ * 팔로우/언팔로우는 커밋 이후 이미 올라와 있는 항목에만 반영하고,
+ * 다른 노드에서 바뀐 관계는 적재 후 follow.cache.ttl-seconds 가 지나 다시 읽을 때 반영된다.
+ */
+@Component
+public class FollowGraphCache {
+
+	private final JPAQueryFactory jpaQueryFactory;
+	private final Cache<Long, SortedLongSet> following;
+
+	public FollowGraphCache(JPAQueryFactory jpaQueryFactory,
+		@Value("${follow.cache.max-ids:20000000}") long maxIds,
+		@Value("${follow.cache.ttl-seconds:60}") long ttlSeconds, MeterRegistry meterRegistry) {
+		this.jpaQueryFactory = jpaQueryFactory;
+		// 빈 집합도 한 칸으로 계산해 팔로우가 없는 사용자가 무제한으로 쌓이지 않게 한다.
+		this.following = Caffeine.newBuilder()
+			.maximumWeight(maxIds)
+			.weigher((Long userId, SortedLongSet set) -> set.size() + 1)
+			.expireAfter(new ExpireAfterCreate<Long, SortedLongSet>(Duration.ofSeconds(ttlSeconds)))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, following, "following");
+	}
+
+	public SortedLongSet getFollowingIds(Long userId) {
+		return following.get(userId, this::loadFollowingIds);
+	}
+
+	public void onFollowed(Long followerUserId, Long followingUserId) {
+		afterCommit(() -> following.asMap()
+			.computeIfPresent(followerUserId, (id, set) -> set.with(followingUserId)));
+	}
+
+	public void onUnfollowed(Long followerUserId, Long followingUserId) {
+		afterCommit(() -> following.asMap()
+			.computeIfPresent(followerUserId, (id, set) -> set.without(followingUserId)));
+	}
+
+	private SortedLongSet loadFollowingIds(Long userId) {
+		QFollow qFollow = QFollow.follow;
+		return SortedLongSet.of(jpaQueryFactory.select(qFollow.id.followingUserId)
+			.from(qFollow)
+			.where(qFollow.id.followerUserId.eq(userId))
+			.fetch());
+	}
+
+	private static void afterCommit(Runnable update) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			update.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				update.run();
+			}
+		});
+	}
+}
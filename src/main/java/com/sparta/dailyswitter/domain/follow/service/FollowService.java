@@ -1,16 +1,25 @@
 package com.sparta.dailyswitter.domain.follow.service;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.common.exception.CustomException;
 import com.sparta.dailyswitter.common.exception.ErrorCode;
-import com.sparta.dailyswitter.domain.follow.entity.Follow;
+import com.sparta.dailyswitter.common.metrics.ActivityMetrics;
+import com.sparta.dailyswitter.common.util.Cursor;
+import com.sparta.dailyswitter.domain.feed.service.FeedService;
+import com.sparta.dailyswitter.domain.follow.dto.FollowUserResponseDto;
+import com.sparta.dailyswitter.domain.follow.entity.FollowId;
 import com.sparta.dailyswitter.domain.follow.entity.QFollow;
 import com.sparta.dailyswitter.domain.follow.repository.FollowRepository;
-import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
 import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,54 +30,123 @@ public class FollowService {
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
     private final JPAQueryFactory jpaQueryFactory;
+    private final FeedService feedService;
+    private final ActivityMetrics activityMetrics;
+    private final FollowGraphCache followGraphCache;
+    private final FollowerCountCounter followerCountCounter;
 
+    /**
+     * 두 사용자 행을 id 오름차순으로 먼저 잠근 뒤 follows 를 등록한다.
+     * 팔로워 행은 following_count 를 고치므로 배타 잠금, 대상 행은 follows INSERT 의 FK 검사와 같은 공유 잠금이다.
+     * 대상의 follower_count 는 FollowerCountCounter 가 커밋 뒤에 모아 id 순으로 반영하므로 서로 교착하지 않는다.
+     */
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional
     public void followUser(Long followerUserId, Long followingUserId) {
-        User followerUser = userRepository.findById(followerUserId).orElseThrow(
-            () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
-        User followingUser = userRepository.findById(followingUserId).orElseThrow(
-            () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
-        if (followRepository.findByFollowerUserAndFollowingUser(followerUser, followingUser)
-            == null) {
-            Follow follow = Follow.builder()
-                .followerUser(followerUser)
-                .followingUser(followingUser)
-                .build();
-            followRepository.save(follow);
-        } else {
+        lockInIdOrder(followerUserId, followingUserId);
+        if (insertFollow(followerUserId, followingUserId) == 0) {
             throw new CustomException(ErrorCode.USER_NOT_UNIQUE);
         }
+        userRepository.addFollowingCount(followerUserId, 1L);
+        followerCountCounter.increment(followingUserId);
+        feedService.onFollow(followerUserId, followingUserId);
+        followGraphCache.onFollowed(followerUserId, followingUserId);
+        activityMetrics.followed();
+    }
+
+    private void lockInIdOrder(Long followerUserId, Long followingUserId) {
+        if (followerUserId < followingUserId) {
+            lockFollower(followerUserId);
+            lockFollowing(followingUserId);
+        } else {
+            lockFollowing(followingUserId);
+            lockFollower(followerUserId);
+        }
     }
 
+    private void lockFollower(Long followerUserId) {
+        userRepository.findByIdForUpdate(followerUserId)
+            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    private void lockFollowing(Long followingUserId) {
+        userRepository.findByIdForShare(followingUserId)
+            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    private int insertFollow(Long followerUserId, Long followingUserId) {
+        try {
+            return followRepository.insertIfAbsent(followerUserId, followingUserId);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 팔로우와 PK 가 충돌한 경우만 중복으로 본다. 그 외 제약 위반은 그대로 던진다.
+            if (followRepository.existsById(new FollowId(followerUserId, followingUserId))) {
+                throw new CustomException(ErrorCode.USER_NOT_UNIQUE);
+            }
+            throw e;
+        }
+    }
+
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional
     public void unfollowUser(Long followerUserId, Long followingUserId) {
-        User followerUser = userRepository.findById(followerUserId).orElseThrow(
-            () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
-        User followingUser = userRepository.findById(followingUserId).orElseThrow(
-            () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
-        Follow follow = followRepository.findByFollowerUserAndFollowingUser(followerUser,
-            followingUser);
-        if (follow != null) {
-            followRepository.delete(follow);
-        } else {
+        // follows 삭제는 사용자 행을 잠그지 않으므로 팔로워 행 하나만 배타 잠금으로 고친다.
+        userRepository.addFollowingCount(followerUserId, -1L);
+        if (followRepository.deleteIfPresent(followerUserId, followingUserId) == 0) {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
+        followerCountCounter.decrement(followingUserId);
+        feedService.onUnfollow(followerUserId, followingUserId);
+        followGraphCache.onUnfollowed(followerUserId, followingUserId);
+        activityMetrics.unfollowed();
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional(readOnly = true)
-    public List<User> getFollows(User followerUser) {
+    public CursorResponseDto<FollowUserResponseDto> getFollowers(Long userId, String cursor, int size) {
         QFollow qFollow = QFollow.follow;
-        List<Follow> follows = jpaQueryFactory.selectFrom(qFollow)
-            .where(qFollow.followerUser.eq(followerUser))
+        QUser qUser = QUser.user;
+        List<FollowUserResponseDto> followers = jpaQueryFactory
+            .select(FollowUserResponseDto.projection(qFollow, qUser))
+            .from(qFollow)
+            .join(qFollow.followerUser, qUser)
+            .where(qFollow.id.followingUserId.eq(userId),
+                followCursorCondition(qFollow, qFollow.id.followerUserId, cursor))
+            .orderBy(qFollow.createdAt.desc(), qFollow.id.followerUserId.desc())
+            .limit(size + 1)
             .fetch();
+        return CursorResponseDto.of(followers, size,
+            follower -> Cursor.encode(follower.getFollowedAt(), follower.getId()));
+    }
 
-        if (follows.isEmpty()) {
-            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+    @Timed(value = "dailyswitter.service", histogram = true)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<FollowUserResponseDto> getFollowing(Long userId, String cursor, int size) {
+        QFollow qFollow = QFollow.follow;
+        QUser qUser = QUser.user;
+        List<FollowUserResponseDto> following = jpaQueryFactory
+            .select(FollowUserResponseDto.projection(qFollow, qUser))
+            .from(qFollow)
+            .join(qFollow.followingUser, qUser)
+            .where(qFollow.id.followerUserId.eq(userId),
+                followCursorCondition(qFollow, qFollow.id.followingUserId, cursor))
+            .orderBy(qFollow.createdAt.desc(), qFollow.id.followingUserId.desc())
+            .limit(size + 1)
+            .fetch();
+        return CursorResponseDto.of(following, size,
+            followed -> Cursor.encode(followed.getFollowedAt(), followed.getId()));
+    }
+
+    private BooleanExpression followCursorCondition(QFollow qFollow, NumberPath<Long> otherUserId,
+        String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
         }
-        return follows.stream().map(Follow::getFollowingUser).collect(Collectors.toList());
+        Cursor decoded = Cursor.decode(cursor, 2);
+        LocalDateTime createdAt = decoded.getDateTime(0);
+        Long id = decoded.getLong(1);
+
+        // (대상 사용자, created_at, 상대 사용자) 인덱스 순서대로 커서 이전의 팔로우만 조회
+        return qFollow.createdAt.lt(createdAt)
+            .or(qFollow.createdAt.eq(createdAt).and(otherUserId.lt(id)));
     }
-}
\ No newline at end of file
+}
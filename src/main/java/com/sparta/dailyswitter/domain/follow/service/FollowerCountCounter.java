@@ -0,0 +1,28 @@
+package com.sparta.dailyswitter.domain.follow.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.dailyswitter.common.util.WriteBehindColumnCounter;
+
+/**
+ * users.follower_count 를 팔로우 트랜잭션 밖에서 모아 반영한다.
+ * 인기 사용자를 팔로우하는 요청들이 그 사용자 행 하나의 배타 잠금에 줄 서지 않게 한다.
+ */
+@Component
+public class FollowerCountCounter extends WriteBehindColumnCounter {
+
+	public FollowerCountCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+		@Value("${user.follow-count.reconcile-batch-size:1000}") int batchSize) {
+		super(jdbcTemplate, transactionTemplate, "users", "follower_count",
+			"SELECT COUNT(*) FROM follows f WHERE f.following_user_id = t.id", batchSize);
+	}
+
+	@Scheduled(cron = "${user.follow-count.reconcile-cron:0 30 4 * * *}")
+	public void scheduledReconcile() {
+		reconcile();
+	}
+}
@@ -4,6 +4,7 @@ import com.sparta.dailyswitter.common.util.Timestamped;
 
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,7 +12,9 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "comment_like")
+@Table(name = "comment_like", indexes = {
+	@Index(name = "idx_comment_like_user_comment", columnList = "user_id, comment_id")
+})
 @NoArgsConstructor
 public class CommentLike extends Timestamped {
 
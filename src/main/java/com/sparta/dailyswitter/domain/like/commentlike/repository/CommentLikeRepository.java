@@ -3,9 +3,27 @@ package com.sparta.dailyswitter.domain.like.commentlike.repository;
 import com.sparta.dailyswitter.domain.like.commentlike.entity.CommentLike;
 import com.sparta.dailyswitter.domain.like.commentlike.entity.CommentLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, CommentLikeId>,
     QuerydslPredicateExecutor<CommentLike> {
 
+    // 댓글이 해당 게시물에 속하고 작성자가 아닌 경우에만 등록한다. 이미 있으면 0 을 반환한다.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_like (user_id, comment_id, created_at, updated_at) "
+        + "SELECT :userId, c.id, NOW(6), NOW(6) FROM comment c "
+        + "WHERE c.id = :commentId AND c.post_id = :postId AND c.user_id <> :userId", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId,
+        @Param("commentId") Long commentId);
+
+    // 댓글이 해당 게시물에 속할 때만 삭제한다. 등록과 같은 조건이라 다른 게시물 경로로는 취소되지 않는다.
+    @Modifying
+    @Query(value = "DELETE FROM comment_like WHERE user_id = :userId AND comment_id = :commentId "
+        + "AND EXISTS (SELECT 1 FROM comment c WHERE c.id = :commentId AND c.post_id = :postId)",
+        nativeQuery = true)
+    int deleteIfPresent(@Param("userId") Long userId, @Param("postId") Long postId,
+        @Param("commentId") Long commentId);
 }
@@ -0,0 +1,18 @@
+package com.sparta.dailyswitter.domain.like.commentlike.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.dailyswitter.common.util.WriteBehindColumnCounter;
+
+@Component
+public class CommentLikeCounter extends WriteBehindColumnCounter {
+
+	public CommentLikeCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+		@Value("${like.counter.reconcile-batch-size:1000}") int batchSize) {
+		super(jdbcTemplate, transactionTemplate, "comment", "comment_likes",
+			"SELECT COUNT(*) FROM comment_like cl WHERE cl.comment_id = t.id", batchSize);
+	}
+}
@@ -3,16 +3,17 @@ package com.sparta.dailyswitter.domain.like.commentlike.service;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.dailyswitter.common.exception.CustomException;
 import com.sparta.dailyswitter.common.exception.ErrorCode;
+import com.sparta.dailyswitter.common.metrics.ActivityMetrics;
 import com.sparta.dailyswitter.domain.comment.dto.CommentResponseDto;
 import com.sparta.dailyswitter.domain.comment.entity.Comment;
 import com.sparta.dailyswitter.domain.comment.service.CommentService;
-import com.sparta.dailyswitter.domain.like.commentlike.entity.CommentLike;
-import com.sparta.dailyswitter.domain.like.commentlike.entity.CommentLikeId;
 import com.sparta.dailyswitter.domain.like.commentlike.entity.QCommentLike;
 import com.sparta.dailyswitter.domain.like.commentlike.repository.CommentLikeRepository;
+import com.sparta.dailyswitter.domain.like.service.LikedSetCache;
 import com.sparta.dailyswitter.domain.post.entity.Post;
 import com.sparta.dailyswitter.domain.post.service.PostService;
 import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.repository.UserRepository;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -29,56 +30,39 @@ public class CommentLikeService {
     private final CommentLikeRepository commentLikeRepository;
     private final PostService postService;
     private final CommentService commentService;
+    private final UserRepository userRepository;
     private final JPAQueryFactory jpaQueryFactory;
+    private final CommentLikeCounter commentLikeCounter;
+    private final LikedSetCache likedSetCache;
+    private final ActivityMetrics activityMetrics;
 
     @Transactional
     public void createCommentLike(Long postId, Long commentId, User user) {
-        Comment comment = commentService.findById(commentId);
-        Post post = postService.findById(postId);
-
-        CommentLikeId commentLikeId = CommentLikeId.builder()
-            .user(user)
-            .comment(comment)
-            .build();
-
-        if (commentLikeRepository.findById(commentLikeId).isPresent()) {
-            throw new CustomException(ErrorCode.COMMENT_LIKE_EXIST);
+        if (commentLikeRepository.insertIfAbsent(user.getId(), postId, commentId) == 1) {
+            commentLikeCounter.increment(commentId);
+            userRepository.addLikedCommentsCount(user.getId(), 1L);
+            likedSetCache.onCommentLiked(user.getId(), commentId);
+            activityMetrics.commentLiked();
+            return;
         }
 
-        commentService.checkCommentPostNotFound(comment, post);
-        commentService.checkCommentUserFound(comment, user);
-
-        CommentLike commentLike = CommentLike.builder()
-            .id(commentLikeId)
-            .build();
-
-        commentLikeRepository.save(commentLike);
-        comment.addCommentLikes();
+        // 등록되지 않은 경우에만 원인을 조회해 알맞은 예외를 던진다.
+        checkCommentLikeTarget(postId, commentId, user);
+        throw new CustomException(ErrorCode.COMMENT_LIKE_EXIST);
     }
 
     @Transactional
     public void deleteCommentLike(Long postId, Long commentId, User user) {
-        Comment comment = commentService.findById(commentId);
-        Post post = postService.findById(postId);
-
-        CommentLikeId commentLikeId = CommentLikeId.builder()
-            .user(user)
-            .comment(comment)
-            .build();
-
-        if (commentLikeRepository.findById(commentLikeId).isEmpty()) {
-            throw new CustomException(ErrorCode.COMMENT_LIKE_NOT_EXIST);
+        if (commentLikeRepository.deleteIfPresent(user.getId(), postId, commentId) == 1) {
+            commentLikeCounter.decrement(commentId);
+            userRepository.addLikedCommentsCount(user.getId(), -1L);
+            likedSetCache.onCommentUnliked(user.getId(), commentId);
+            activityMetrics.commentUnliked();
+            return;
         }
 
-        commentService.checkCommentPostNotFound(comment, post);
-        commentService.checkCommentUserFound(comment, user);
-
-        CommentLike commentLike = CommentLike.builder()
-            .id(commentLikeId)
-            .build();
-
-        commentLikeRepository.delete(commentLike);
-        comment.subCommentLikes();
+        checkCommentLikeTarget(postId, commentId, user);
+        throw new CustomException(ErrorCode.COMMENT_LIKE_NOT_EXIST);
     }
 
     @Transactional(readOnly = true)
@@ -98,7 +82,7 @@ public class CommentLikeService {
             .fetchCount();
 
         List<CommentResponseDto> commentResponseDtos = comments.stream()
-            .map(CommentResponseDto::new)
+            .map(commentService::convertToDto)
             .collect(Collectors.toList());
 
         return new PageImpl<>(commentResponseDtos, pageable, total);
@@ -106,10 +90,13 @@ public class CommentLikeService {
 
     @Transactional(readOnly = true)
     public boolean CommentsLikedByUser(Long postId, User user) {
-        QCommentLike qCommentLike = QCommentLike.commentLike;
-        return jpaQueryFactory.selectFrom(qCommentLike)
-            .where(qCommentLike.id.comment.id.eq(postId)
-                .and(qCommentLike.id.user.eq(user)))
-            .fetchFirst() != null;
+        return likedSetCache.getLikedCommentIds(user.getId()).contains(postId);
+    }
+
+    private void checkCommentLikeTarget(Long postId, Long commentId, User user) {
+        Comment comment = commentService.findById(commentId);
+        Post post = postService.findById(postId);
+        commentService.checkCommentPostNotFound(comment, post);
+        commentService.checkCommentUserFound(comment, user);
     }
 }
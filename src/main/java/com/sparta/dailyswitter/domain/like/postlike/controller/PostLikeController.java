@@ -1,6 +1,8 @@
 package com.sparta.dailyswitter.domain.like.postlike.controller;
 
 import com.sparta.dailyswitter.domain.post.dto.PostResponseDto;
+import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sparta.dailyswitter.domain.like.postlike.service.PostLikeService;
@@ -48,6 +51,13 @@ public class PostLikeController {
 		return ResponseEntity.status(HttpStatus.OK).body(likedPosts);
 	}
 
+	@GetMapping("/posts/likes/status")
+	public ResponseEntity<Map<Long, Boolean>> getLikedStatus(@RequestParam List<Long> postIds,
+		@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		Map<Long, Boolean> likedStatus = postLikeService.getLikedStatus(postIds, userDetails.getUser());
+		return ResponseEntity.status(HttpStatus.OK).body(likedStatus);
+	}
+
 	@GetMapping("/posts/{postId}/likes")
 	public ResponseEntity<Boolean> PostsLikedByUser(@PathVariable Long postId, @AuthenticationPrincipal
 		UserDetailsImpl userDetails) {
@@ -5,6 +5,7 @@ import com.sparta.dailyswitter.common.util.Timestamped;
 
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +13,9 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "post_like")
+@Table(name = "post_like", indexes = {
+	@Index(name = "idx_post_like_user_post", columnList = "user_id, post_id")
+})
 @NoArgsConstructor
 public class PostLike extends Timestamped {
 
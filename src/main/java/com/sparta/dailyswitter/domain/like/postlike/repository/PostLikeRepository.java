@@ -3,9 +3,22 @@ package com.sparta.dailyswitter.domain.like.postlike.repository;
 import com.sparta.dailyswitter.domain.like.postlike.entity.PostLike;
 import com.sparta.dailyswitter.domain.like.postlike.entity.PostLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId>,
     QuerydslPredicateExecutor<PostLike> {
 
+    // 게시물이 존재하고 작성자가 아닌 경우에만 한 번의 문장으로 등록한다. 이미 있으면 0 을 반환한다.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (user_id, post_id, created_at, updated_at) "
+        + "SELECT :userId, p.id, NOW(6), NOW(6) FROM post p "
+        + "WHERE p.id = :postId AND p.user_id <> :userId", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_like WHERE user_id = :userId AND post_id = :postId", nativeQuery = true)
+    int deleteIfPresent(@Param("userId") Long userId, @Param("postId") Long postId);
 }
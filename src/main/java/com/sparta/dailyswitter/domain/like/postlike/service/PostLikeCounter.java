@@ -0,0 +1,30 @@
+package com.sparta.dailyswitter.domain.like.postlike.service;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.dailyswitter.common.util.WriteBehindColumnCounter;
+import com.sparta.dailyswitter.domain.post.service.PostCache;
+
+@Component
+public class PostLikeCounter extends WriteBehindColumnCounter {
+
+	private final PostCache postCache;
+
+	public PostLikeCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, PostCache postCache,
+		@Value("${like.counter.reconcile-batch-size:1000}") int batchSize) {
+		super(jdbcTemplate, transactionTemplate, "post", "post_likes",
+			"SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = t.id", batchSize);
+		this.postCache = postCache;
+	}
+
+	@Override
+	protected void afterWrite(Collection<Long> postIds) {
+		// 캐시된 단건 조회는 반영 전 좋아요 수를 기준으로 하므로, 반영된 게시물은 다시 읽게 한다.
+		postCache.evictAll(postIds);
+	}
+}
@@ -1,22 +1,29 @@
 package com.sparta.dailyswitter.domain.like.postlike.service;
 
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.dailyswitter.common.exception.CustomException;
 import com.sparta.dailyswitter.common.exception.ErrorCode;
-import com.sparta.dailyswitter.domain.like.postlike.entity.PostLike;
-import com.sparta.dailyswitter.domain.like.postlike.entity.PostLikeId;
+import com.sparta.dailyswitter.common.metrics.ActivityMetrics;
+import com.sparta.dailyswitter.common.util.SortedLongSet;
 import com.sparta.dailyswitter.domain.like.postlike.entity.QPostLike;
 import com.sparta.dailyswitter.domain.like.postlike.repository.PostLikeRepository;
+import com.sparta.dailyswitter.domain.like.service.LikedSetCache;
 import com.sparta.dailyswitter.domain.post.dto.PostResponseDto;
 import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.post.entity.QPost;
 import com.sparta.dailyswitter.domain.post.service.PostService;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
 import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,85 +31,90 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PostLikeService {
 
+    private static final int MAX_LIKED_STATUS_IDS = 100;
+
     private final PostLikeRepository postLikeRepository;
     private final PostService postService;
+    private final UserRepository userRepository;
     private final JPAQueryFactory jpaQueryFactory;
+    private final PostLikeCounter postLikeCounter;
+    private final LikedSetCache likedSetCache;
+    private final ActivityMetrics activityMetrics;
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional
     public void createPostLike(Long postId, User user) {
-        Post post = postService.findById(postId);
-
-        PostLikeId postLikeId = PostLikeId.builder()
-            .user(user)
-            .post(post)
-            .build();
-
-        if (postLikeRepository.findById(postLikeId).isPresent()) {
-            throw new CustomException(ErrorCode.POST_LIKE_EXIST);
+        if (postLikeRepository.insertIfAbsent(user.getId(), postId) == 1) {
+            postLikeCounter.increment(postId);
+            userRepository.addLikedPostsCount(user.getId(), 1L);
+            likedSetCache.onPostLiked(user.getId(), postId);
+            activityMetrics.postLiked();
+            return;
         }
 
+        // 등록되지 않은 경우에만 원인을 조회해 알맞은 예외를 던진다.
+        Post post = postService.findById(postId);
         postService.checkPostUserFound(post, user);
-
-        PostLike postLike = PostLike.builder()
-            .id(postLikeId)
-            .build();
-
-        postLikeRepository.save(postLike);
-        post.addPostLikes();
+        throw new CustomException(ErrorCode.POST_LIKE_EXIST);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional
     public void deletePostLike(Long postId, User user) {
-        Post post = postService.findById(postId);
-
-        PostLikeId postLikeId = PostLikeId.builder()
-            .user(user)
-            .post(post)
-            .build();
-
-        if (postLikeRepository.findById(postLikeId).isEmpty()) {
-            throw new CustomException(ErrorCode.POST_LIKE_NOT_EXIST);
+        if (postLikeRepository.deleteIfPresent(user.getId(), postId) == 1) {
+            postLikeCounter.decrement(postId);
+            userRepository.addLikedPostsCount(user.getId(), -1L);
+            likedSetCache.onPostUnliked(user.getId(), postId);
+            activityMetrics.postUnliked();
+            return;
         }
 
+        Post post = postService.findById(postId);
         postService.checkPostUserFound(post, user);
-
-        PostLike postLike = PostLike.builder()
-            .id(postLikeId)
-            .build();
-
-        postLikeRepository.delete(postLike);
-        post.subPostLikes();
+        throw new CustomException(ErrorCode.POST_LIKE_NOT_EXIST);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional(readOnly = true)
     public Page<PostResponseDto> getLikedPosts(User user, Pageable pageable) {
         QPostLike qPostLike = QPostLike.postLike;
+        QPost qPost = QPost.post;
+        QUser qUser = QUser.user;
 
-        List<Post> posts = jpaQueryFactory.select(qPostLike.id.post)
+        List<PostResponseDto> posts = jpaQueryFactory.select(PostResponseDto.projection(qPost, qUser))
             .from(qPostLike)
+            .join(qPostLike.id.post, qPost)
+            .join(qPost.user, qUser)
             .where(qPostLike.id.user.eq(user))
-            .orderBy(qPostLike.id.post.createdAt.desc())
+            .orderBy(qPost.createdAt.desc())
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
+        postService.applyPendingLikes(posts);
 
-        long total = jpaQueryFactory.selectFrom(qPostLike)
-            .where(qPostLike.id.user.eq(user))
-            .fetchCount();
-
-        List<PostResponseDto> postResponseDtos = posts.stream()
-            .map(PostResponseDto::new)
-            .collect(Collectors.toList());
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(qPostLike.count())
+            .from(qPostLike)
+            .where(qPostLike.id.user.eq(user));
 
-        return new PageImpl<>(postResponseDtos, pageable, total);
+        return PageableExecutionUtils.getPage(posts, pageable, countQuery::fetchOne);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     @Transactional(readOnly = true)
     public boolean PostsLikedByUser(Long postId, User user) {
-        QPostLike qPostLike = QPostLike.postLike;
-        return jpaQueryFactory.selectFrom(qPostLike)
-            .where(qPostLike.id.post.id.eq(postId)
-                .and(qPostLike.id.user.eq(user)))
-            .fetchFirst() != null;
+        return likedSetCache.getLikedPostIds(user.getId()).contains(postId);
+    }
+
+    @Timed(value = "dailyswitter.service", histogram = true)
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> getLikedStatus(List<Long> postIds, User user) {
+        if (postIds.size() > MAX_LIKED_STATUS_IDS) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        SortedLongSet likedPostIds = likedSetCache.getLikedPostIds(user.getId());
+
+        Map<Long, Boolean> likedStatus = new LinkedHashMap<>();
+        postIds.forEach(postId -> likedStatus.put(postId, likedPostIds.contains(postId)));
+        return likedStatus;
     }
 }
@@ -0,0 +1,111 @@
+package com.sparta.dailyswitter.domain.like.service;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.util.ExpireAfterCreate;
+import com.sparta.dailyswitter.common.util.SortedLongSet;
+import com.sparta.dailyswitter.domain.like.commentlike.entity.QCommentLike;
+import com.sparta.dailyswitter.domain.like.postlike.entity.QPostLike;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 사용자별로 좋아요한 게시물/댓글 id 를 SortedLongSet 으로 보관하는 캐시.
+ * 캐시 크기는 사용자 수가 아니라 보관 중인 id 개수(가중치) 기준으로 제한한다.
+ * 좋아요 등록/취소는 커밋 이후 이미 올라와 있는 항목에만 반영한다.
+ *
+ * 다른 노드의 좋아요나 적재 도중 커밋된 좋아요는 이 노드의 항목에 반영되지 않으므로,
+ * 항목은 적재 시점부터 ttl 이 지나면 만료시켜 그런 누락이 ttl 이상 남지 않게 한다.
+ */
+@Component
+public class LikedSetCache {
+
+	private final JPAQueryFactory jpaQueryFactory;
+	private final Cache<Long, SortedLongSet> likedPosts;
+	private final Cache<Long, SortedLongSet> likedComments;
+
+	public LikedSetCache(JPAQueryFactory jpaQueryFactory,
+		@Value("${like.cache.max-ids:20000000}") long maxIds,
+		@Value("${like.cache.ttl-seconds:60}") long ttlSeconds, MeterRegistry meterRegistry) {
+		this.jpaQueryFactory = jpaQueryFactory;
+		this.likedPosts = buildCache(maxIds, Duration.ofSeconds(ttlSeconds));
+		this.likedComments = buildCache(maxIds, Duration.ofSeconds(ttlSeconds));
+		CaffeineCacheMetrics.monitor(meterRegistry, likedPosts, "likedPosts");
+		CaffeineCacheMetrics.monitor(meterRegistry, likedComments, "likedComments");
+	}
+
+	public SortedLongSet getLikedPostIds(Long userId) {
+		return likedPosts.get(userId, this::loadLikedPostIds);
+	}
+
+	public SortedLongSet getLikedCommentIds(Long userId) {
+		return likedComments.get(userId, this::loadLikedCommentIds);
+	}
+
+	public void onPostLiked(Long userId, Long postId) {
+		afterCommit(likedPosts, userId, set -> set.with(postId));
+	}
+
+	public void onPostUnliked(Long userId, Long postId) {
+		afterCommit(likedPosts, userId, set -> set.without(postId));
+	}
+
+	public void onCommentLiked(Long userId, Long commentId) {
+		afterCommit(likedComments, userId, set -> set.with(commentId));
+	}
+
+	public void onCommentUnliked(Long userId, Long commentId) {
+		afterCommit(likedComments, userId, set -> set.without(commentId));
+	}
+
+	private SortedLongSet loadLikedPostIds(Long userId) {
+		QPostLike qPostLike = QPostLike.postLike;
+		return SortedLongSet.of(jpaQueryFactory.select(qPostLike.id.post.id)
+			.from(qPostLike)
+			.where(qPostLike.id.user.id.eq(userId))
+			.fetch());
+	}
+
+	private SortedLongSet loadLikedCommentIds(Long userId) {
+		QCommentLike qCommentLike = QCommentLike.commentLike;
+		return SortedLongSet.of(jpaQueryFactory.select(qCommentLike.id.comment.id)
+			.from(qCommentLike)
+			.where(qCommentLike.id.user.id.eq(userId))
+			.fetch());
+	}
+
+	private void afterCommit(Cache<Long, SortedLongSet> cache, Long userId, UnaryOperator<SortedLongSet> change) {
+		Runnable update = () -> cache.asMap().computeIfPresent(userId, (key, set) -> change.apply(set));
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			update.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				update.run();
+			}
+		});
+	}
+
+	private static Cache<Long, SortedLongSet> buildCache(long maxIds, Duration ttl) {
+		// 빈 집합도 한 칸으로 계산해 좋아요가 없는 사용자가 무제한으로 쌓이지 않게 한다.
+		return Caffeine.newBuilder()
+			.maximumWeight(maxIds)
+			.weigher((Long userId, SortedLongSet set) -> set.size() + 1)
+			.expireAfter(new ExpireAfterCreate<Long, SortedLongSet>(ttl))
+			.recordStats()
+			.build();
+	}
+}
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.domain.post.dto.PostRequestDto;
 import com.sparta.dailyswitter.domain.post.dto.PostResponseDto;
 import com.sparta.dailyswitter.domain.post.service.PostService;
@@ -75,13 +76,18 @@ public class PostController {
 		return postService.getAllPosts(pageable);
 	}
 
+	@GetMapping("/timeline")
+	public CursorResponseDto<PostResponseDto> getTimeline(@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "latest") String sort) {
+		return postService.getTimeline(cursor, PAGE_SIZE, sort);
+	}
+
 	@GetMapping("/following")
-	public Page<PostResponseDto> getFollowingPosts(@RequestParam(defaultValue = "0") int page,
+	public CursorResponseDto<PostResponseDto> getFollowingPosts(@RequestParam(required = false) String cursor,
 		@AuthenticationPrincipal UserDetailsImpl userDetails) {
 		if (userDetails == null) {
 			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User is not authenticated");
 		}
-		Pageable pageable = PageRequest.of(page, PAGE_SIZE);
-		return postService.getFollowedPosts(userDetails.getUser(), pageable);
+		return postService.getFollowedPosts(userDetails.getUser(), cursor, PAGE_SIZE);
 	}
 }
@@ -0,0 +1,26 @@
+package com.sparta.dailyswitter.domain.post.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class PostBulkRequestDto {
+	@NotBlank(message = "작성자 아이디를 입력해주세요.")
+	private final String userId;
+
+	@NotEmpty(message = "등록할 게시물을 입력해주세요.")
+	@Size(max = 1000, message = "한 번에 1000건까지 등록할 수 있습니다.")
+	private final List<@Valid PostRequestDto> posts;
+
+	@Builder
+	public PostBulkRequestDto(String userId, List<PostRequestDto> posts) {
+		this.userId = userId;
+		this.posts = posts;
+	}
+}
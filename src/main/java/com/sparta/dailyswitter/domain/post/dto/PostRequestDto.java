@@ -1,12 +1,16 @@
 package com.sparta.dailyswitter.domain.post.dto;
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 public class PostRequestDto {
+	@NotBlank(message = "게시물 제목을 작성해주세요.")
 	private final String title;
+
+	@NotBlank(message = "게시물 내용을 작성해주세요.")
 	private final String contents;
 
 	@Builder
@@ -1,6 +1,10 @@
 package com.sparta.dailyswitter.domain.post.dto;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.post.entity.QPost;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
 import java.time.LocalDateTime;
 
 import lombok.Builder;
@@ -8,33 +12,65 @@ import lombok.Getter;
 
 @Getter
 public class PostResponseDto {
+	private final Long id;
 	private final String title;
 	private final String contents;
 	private final String userId;
 	private Long postLikes;
+	private final Long commentCount;
 	private final boolean isPinned;
 	private final LocalDateTime createdAt;
 	private final LocalDateTime updatedAt;
 
 	@Builder
-	public PostResponseDto(String title, String contents, String userId, Long postLikes, boolean isPinned, LocalDateTime createdAt,
-		LocalDateTime updatedAt) {
+	public PostResponseDto(Long id, String title, String contents, String userId, Long postLikes, Long commentCount,
+		boolean isPinned, LocalDateTime createdAt, LocalDateTime updatedAt) {
+		this.id = id;
 		this.title = title;
 		this.contents = contents;
 		this.userId = userId;
 		this.postLikes = postLikes;
+		this.commentCount = commentCount;
 		this.isPinned = isPinned;
 		this.createdAt = createdAt;
 		this.updatedAt = updatedAt;
 	}
 
 	public PostResponseDto(Post post) {
+		this.id = post.getId();
 		this.title = post.getTitle();
 		this.contents = post.getContents();
-		this.userId = post.getUser().getUsername();
+		this.userId = post.getUser().getUserId();
 		this.postLikes = post.getPostLikes();
+		this.commentCount = post.getCommentCount();
 		this.isPinned = post.isPinned();
 		this.createdAt = post.getCreatedAt();
 		this.updatedAt = post.getUpdatedAt();
 	}
+
+	public void applyPendingLikes(long pendingLikes) {
+		this.postLikes = this.postLikes + pendingLikes;
+	}
+
+	public PostResponseDto copy() {
+		return new PostResponseDto(id, title, contents, userId, postLikes, commentCount, isPinned, createdAt,
+			updatedAt);
+	}
+
+	/**
+	 * 엔티티를 영속성 컨텍스트에 올리지 않고 응답에 필요한 컬럼만 조회하는 프로젝션.
+	 * post 와 작성자(user)가 조인된 쿼리에서 사용한다.
+	 */
+	public static ConstructorExpression<PostResponseDto> projection(QPost post, QUser user) {
+		return Projections.constructor(PostResponseDto.class,
+			post.id,
+			post.title,
+			post.contents,
+			user.userId,
+			post.postLikes,
+			post.commentCount,
+			post.isPinned,
+			post.createdAt,
+			post.updatedAt);
+	}
 }
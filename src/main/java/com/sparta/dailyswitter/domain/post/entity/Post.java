@@ -9,22 +9,33 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.ColumnDefault;
+
 @Getter
 @Entity
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(name = "post", indexes = {
+	@Index(name = "idx_post_pinned_created_id", columnList = "is_pinned, created_at, id"),
+	@Index(name = "idx_post_comment_count_id", columnList = "comment_count, id"),
+	@Index(name = "idx_post_user_created_id", columnList = "user_id, created_at, id")
+})
 public class Post extends Timestamped {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+	@SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false, name = "title")
@@ -41,10 +52,17 @@ public class Post extends Timestamped {
 	@JoinColumn(name = "user_id", nullable = false)
 	private User user;
 
+	// 좋아요 수는 PostLikeCounter 가 상대값 UPDATE 로만 변경한다.
 	@Builder.Default
-	@Column
+	@Column(updatable = false)
 	private Long postLikes = 0L;
 
+	// 댓글 수는 댓글 등록/삭제 시 PostRepository 의 상대값 UPDATE 로만 변경한다.
+	@Builder.Default
+	@ColumnDefault("0")
+	@Column(name = "comment_count", nullable = false, updatable = false)
+	private Long commentCount = 0L;
+
 	public void update(String title, String contents) {
 		this.title = title;
 		this.contents = contents;
@@ -53,12 +71,4 @@ public class Post extends Timestamped {
 	public void togglePin() {
 		this.isPinned = !this.isPinned;
 	}
-
-	public void addPostLikes() {
-		this.postLikes = postLikes + 1L;
-	}
-
-	public void subPostLikes() {
-		this.postLikes = postLikes - 1L;
-	}
 }
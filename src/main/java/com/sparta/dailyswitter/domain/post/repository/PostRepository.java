@@ -1,19 +1,26 @@
 package com.sparta.dailyswitter.domain.post.repository;
 
-import java.util.List;
-
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.sparta.dailyswitter.domain.post.entity.Post;
-import com.sparta.dailyswitter.domain.user.entity.User;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long>, QuerydslPredicateExecutor<Post> {
-	Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
-	Page<Post> findByUserInOrderByCreatedAtDesc(List<User> users, Pageable pageable);
-	Page<Post> findAllByOrderByIsPinnedDescCreatedAtDesc(Pageable pageable);
-}
\ No newline at end of file
+	@Modifying
+	@Query(value = "UPDATE post SET comment_count = comment_count + :delta WHERE id = :postId", nativeQuery = true)
+	int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+	@Query(value = "SELECT COALESCE(MAX(id), 0) FROM post", nativeQuery = true)
+	long findMaxId();
+
+	@Modifying
+	@Query(value = "UPDATE post p SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id) "
+		+ "WHERE p.id > :fromId AND p.id <= :toId "
+		+ "AND comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id)", nativeQuery = true)
+	int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -0,0 +1,64 @@
+package com.sparta.dailyswitter.domain.post.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.dailyswitter.domain.post.dto.PostResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 단건 게시물 조회 결과를 보관하는 캐시. 보관하는 좋아요 수는 DB 에 반영된 값이며,
+ * 아직 반영되지 않은 좋아요 수는 조회 시점에 PostLikeCounter 에서 더한다.
+ * 게시물 행이 바뀌는 곳(수정, 삭제, 고정, 댓글 수, 좋아요 수 반영)에서는 반드시 evict 한다.
+ */
+@Component
+public class PostCache {
+
+	private final Cache<Long, PostResponseDto> posts;
+
+	public PostCache(@Value("${post.cache.ttl-seconds:30}") long ttlSeconds,
+		@Value("${post.cache.max-size:10000}") long maxSize, MeterRegistry meterRegistry) {
+		this.posts = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.maximumSize(maxSize)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, posts, "posts");
+	}
+
+	/**
+	 * 캐시된 인스턴스는 여러 요청이 공유하므로 호출부는 PostResponseDto.copy 로 복사한 뒤 수정한다.
+	 */
+	public PostResponseDto get(Long postId, Function<Long, PostResponseDto> loader) {
+		return posts.get(postId, loader);
+	}
+
+	/**
+	 * 바로 지우고, 트랜잭션 안이라면 커밋 이후에 한 번 더 지워 그 사이 다시 올라온 이전 값도 제거한다.
+	 */
+	public void evict(Long postId) {
+		posts.invalidate(postId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					posts.invalidate(postId);
+				}
+			});
+		}
+	}
+
+	public void evictAll(Collection<Long> postIds) {
+		posts.invalidateAll(postIds);
+	}
+}
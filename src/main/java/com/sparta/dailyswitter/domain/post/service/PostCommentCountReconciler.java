@@ -0,0 +1,39 @@
+package com.sparta.dailyswitter.domain.post.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.dailyswitter.common.util.IdRangeReconciler;
+import com.sparta.dailyswitter.domain.post.repository.PostRepository;
+
+/**
+ * 댓글 등록/삭제 시 상대값으로만 바뀌는 post.comment_count 를 comment 행 수로 다시 맞춘다.
+ */
+@Component
+public class PostCommentCountReconciler extends IdRangeReconciler {
+
+	private final PostRepository postRepository;
+
+	public PostCommentCountReconciler(TransactionTemplate transactionTemplate, PostRepository postRepository,
+		@Value("${post.comment-count.reconcile-batch-size:1000}") int batchSize) {
+		super(transactionTemplate, "게시물 댓글 수", batchSize);
+		this.postRepository = postRepository;
+	}
+
+	@Scheduled(cron = "${post.comment-count.reconcile-cron:0 0 4 * * *}")
+	public void scheduledReconcile() {
+		reconcile();
+	}
+
+	@Override
+	protected long findMaxId() {
+		return postRepository.findMaxId();
+	}
+
+	@Override
+	protected int reconcileRange(long from, long to) {
+		return postRepository.reconcileCommentCounts(from, to);
+	}
+}
@@ -1,32 +1,60 @@
 package com.sparta.dailyswitter.domain.post.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.common.exception.CustomException;
 import com.sparta.dailyswitter.common.exception.ErrorCode;
-import com.sparta.dailyswitter.domain.follow.service.FollowService;
+import com.sparta.dailyswitter.common.util.Cursor;
+import com.sparta.dailyswitter.domain.feed.entity.QFeed;
+import com.sparta.dailyswitter.domain.feed.service.FeedService;
+import com.sparta.dailyswitter.domain.like.postlike.service.PostLikeCounter;
+import com.sparta.dailyswitter.domain.post.dto.PostBulkRequestDto;
 import com.sparta.dailyswitter.domain.post.dto.PostRequestDto;
 import com.sparta.dailyswitter.domain.post.dto.PostResponseDto;
 import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.post.entity.QPost;
 import com.sparta.dailyswitter.domain.post.repository.PostRepository;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
 import com.sparta.dailyswitter.domain.user.entity.User;
 import com.sparta.dailyswitter.domain.user.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+	private static final String SORT_LATEST = "latest";
+	private static final String SORT_COMMENTS = "comments";
+	private static final int MAX_BULK_SIZE = 1000;
+
 	private final PostRepository postRepository;
 	private final UserRepository userRepository;
-	private final FollowService followService;
+	private final FeedService feedService;
+	private final JPAQueryFactory jpaQueryFactory;
+	private final PostLikeCounter postLikeCounter;
+	private final PostCache postCache;
 
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional
 	public PostResponseDto createPost(PostRequestDto requestDto, String username) {
 		User user = userRepository.findByUserId(username).orElseThrow(
@@ -38,9 +66,39 @@ public class PostService {
 			.user(user)
 			.build();
 		Post savedPost = postRepository.save(post);
+		feedService.fanOut(savedPost);
 		return convertToDto(savedPost);
 	}
 
+	/**
+	 * 시드/이관용 대량 등록. hibernate.jdbc.batch_size 단위로 INSERT 가 묶여 전송되고
+	 * 팔로워 피드는 게시물이 커밋된 뒤 몇 건씩 묶어 별도 트랜잭션으로 펼친다.
+	 * 펼치는 도중 실패하면 게시물은 남으므로 /api/admin/feeds/rebuild 로 피드를 다시 만든다.
+	 */
+	@Timed(value = "dailyswitter.service", histogram = true)
+	public int bulkCreatePosts(PostBulkRequestDto requestDto) {
+		List<PostRequestDto> requests = requestDto.getPosts();
+		if (requests == null || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		User user = userRepository.findByUserId(requestDto.getUserId()).orElseThrow(
+			() -> new CustomException(ErrorCode.USER_NOT_FOUND)
+		);
+
+		List<Post> posts = new ArrayList<>(requests.size());
+		for (PostRequestDto request : requests) {
+			posts.add(Post.builder()
+				.title(request.getTitle())
+				.contents(request.getContents())
+				.user(user)
+				.build());
+		}
+		List<Post> savedPosts = postRepository.saveAllAndFlush(posts);
+		feedService.fanOut(savedPosts);
+		return savedPosts.size();
+	}
+
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional
 	public PostResponseDto updatePost(Long postId, PostRequestDto requestDto, String username) {
 		Post post = postRepository.findById(postId).orElseThrow(
@@ -53,10 +111,12 @@ public class PostService {
 
 		post.update(requestDto.getTitle(), requestDto.getContents());
 		postRepository.save(post);
+		postCache.evict(postId);
 
 		return convertToDto(post);
 	}
 
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional
 	public PostResponseDto AdminUpdatePost(Long postId, PostRequestDto requestDto) {
 		Post post = postRepository.findById(postId).orElseThrow(
@@ -64,9 +124,11 @@ public class PostService {
 		);
 
 		post.update(requestDto.getTitle(), requestDto.getContents());
+		postCache.evict(postId);
 		return convertToDto(post);
 	}
 
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional
 	public void deletePost(Long postId, String username) {
 
@@ -77,9 +139,12 @@ public class PostService {
 		if (!post.getUser().getUserId().equals(username)) {
 			throw new CustomException(ErrorCode.POST_NOT_USER);
 		}
+		feedService.onPostDeleted(postId);
 		postRepository.delete(post);
+		postCache.evict(postId);
 	}
 
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional
 	public void AdminDeletePost(Long postId) {
 
@@ -87,28 +152,142 @@ public class PostService {
 			() -> new CustomException(ErrorCode.POST_NOT_FOUND)
 		);
 
+		feedService.onPostDeleted(postId);
 		postRepository.delete(post);
+		postCache.evict(postId);
 	}
 
+	/**
+	 * 캐시 적중 시 DB 를 거치지 않으므로 트랜잭션을 열지 않는다. 캐시에 없으면 작성자를 조인한 프로젝션 한 번으로 읽는다.
+	 */
+	@Timed(value = "dailyswitter.service", histogram = true)
 	public PostResponseDto getPost(Long postId) {
-		Post post = postRepository.findById(postId).orElseThrow(
-			() -> new CustomException(ErrorCode.POST_NOT_FOUND)
-		);
-		return convertToDto(post);
+		PostResponseDto post = postCache.get(postId, this::loadPost).copy();
+		post.applyPendingLikes(postLikeCounter.pending(postId));
+		return post;
 	}
 
+	private PostResponseDto loadPost(Long postId) {
+		QPost qPost = QPost.post;
+		QUser qUser = QUser.user;
+		PostResponseDto post = jpaQueryFactory.select(PostResponseDto.projection(qPost, qUser))
+			.from(qPost)
+			.join(qPost.user, qUser)
+			.where(qPost.id.eq(postId))
+			.fetchOne();
+		if (post == null) {
+			throw new CustomException(ErrorCode.POST_NOT_FOUND);
+		}
+		return post;
+	}
+
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional(readOnly = true)
 	public Page<PostResponseDto> getAllPosts(Pageable pageable) {
-		return postRepository.findAllByOrderByIsPinnedDescCreatedAtDesc(pageable)
-			.map(this::convertToDto);
+		QPost qPost = QPost.post;
+		QUser qUser = QUser.user;
+		List<PostResponseDto> posts = jpaQueryFactory.select(PostResponseDto.projection(qPost, qUser))
+			.from(qPost)
+			.join(qPost.user, qUser)
+			.orderBy(qPost.isPinned.desc(), qPost.createdAt.desc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+		applyPendingLikes(posts);
+
+		JPAQuery<Long> countQuery = jpaQueryFactory.select(qPost.count())
+			.from(qPost);
+		return PageableExecutionUtils.getPage(posts, pageable, countQuery::fetchOne);
 	}
 
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional(readOnly = true)
-	public Page<PostResponseDto> getFollowedPosts(User followerUser, Pageable pageable) {
-		List<User> follows = followService.getFollows(followerUser);
-		return postRepository.findByUserInOrderByCreatedAtDesc(follows, pageable).map(this::convertToDto);
+	public CursorResponseDto<PostResponseDto> getTimeline(String cursor, int size, String sort) {
+		if (SORT_COMMENTS.equals(sort)) {
+			return getTimelineByCommentCount(cursor, size);
+		}
+		if (sort != null && !SORT_LATEST.equals(sort)) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+
+		QPost qPost = QPost.post;
+		QUser qUser = QUser.user;
+		List<PostResponseDto> posts = jpaQueryFactory.select(PostResponseDto.projection(qPost, qUser))
+			.from(qPost)
+			.join(qPost.user, qUser)
+			.where(timelineCursorCondition(qPost, cursor))
+			.orderBy(qPost.isPinned.desc(), qPost.createdAt.desc(), qPost.id.desc())
+			.limit(size + 1)
+			.fetch();
+		applyPendingLikes(posts);
+
+		return CursorResponseDto.of(posts, size, this::encodeTimelineCursor);
 	}
 
+	private CursorResponseDto<PostResponseDto> getTimelineByCommentCount(String cursor, int size) {
+		QPost qPost = QPost.post;
+		QUser qUser = QUser.user;
+		List<PostResponseDto> posts = jpaQueryFactory.select(PostResponseDto.projection(qPost, qUser))
+			.from(qPost)
+			.join(qPost.user, qUser)
+			.where(commentCountCursorCondition(qPost, cursor))
+			.orderBy(qPost.commentCount.desc(), qPost.id.desc())
+			.limit(size + 1)
+			.fetch();
+		applyPendingLikes(posts);
+
+		return CursorResponseDto.of(posts, size, post -> Cursor.encode(post.getCommentCount(), post.getId()));
+	}
+
+	/**
+	 * 펼쳐진 feed 행과 pull 작성자의 게시물을 각각 (created_at, id) 인덱스 범위로 size + 1 건씩 읽어 합친다.
+	 * 작성자가 pull 로 바뀌기 전에 펼쳐진 행은 두 쪽에 함께 나올 수 있어 게시물 id 로 중복을 제거한다.
+	 */
+	@Timed(value = "dailyswitter.service", histogram = true)
+	@Transactional(readOnly = true)
+	public CursorResponseDto<PostResponseDto> getFollowedPosts(User followerUser, String cursor, int size) {
+		QPost qPost = QPost.post;
+		QUser qUser = QUser.user;
+		QFeed qFeed = QFeed.feed;
+		Long userId = followerUser.getId();
+		List<Long> pullAuthorIds = feedService.getFollowedPullAuthorIds(userId);
+
+		List<PostResponseDto> pushed = jpaQueryFactory.select(PostResponseDto.projection(qPost, qUser))
+			.from(qFeed)
+			.join(qPost).on(qPost.id.eq(qFeed.postId))
+			.join(qPost.user, qUser)
+			.where(qFeed.userId.eq(userId), followedCursorCondition(qFeed.createdAt, qFeed.postId, cursor))
+			.orderBy(qFeed.createdAt.desc(), qFeed.postId.desc())
+			.limit(size + 1)
+			.fetch();
+		if (pullAuthorIds.isEmpty()) {
+			applyPendingLikes(pushed);
+			return CursorResponseDto.of(pushed, size, this::encodeFollowedCursor);
+		}
+
+		List<PostResponseDto> pulled = jpaQueryFactory.select(PostResponseDto.projection(qPost, qUser))
+			.from(qPost)
+			.join(qPost.user, qUser)
+			.where(qPost.user.id.in(pullAuthorIds), followedCursorCondition(qPost.createdAt, qPost.id, cursor))
+			.orderBy(qPost.createdAt.desc(), qPost.id.desc())
+			.limit(size + 1)
+			.fetch();
+
+		Map<Long, PostResponseDto> merged = new LinkedHashMap<>();
+		Stream.concat(pushed.stream(), pulled.stream())
+			.forEach(post -> merged.putIfAbsent(post.getId(), post));
+		List<PostResponseDto> posts = merged.values().stream()
+			.sorted(Comparator.comparing(PostResponseDto::getCreatedAt)
+				.thenComparing(PostResponseDto::getId)
+				.reversed())
+			.limit(size + 1)
+			.toList();
+		applyPendingLikes(posts);
+
+		return CursorResponseDto.of(posts, size, this::encodeFollowedCursor);
+	}
+
+	@Timed(value = "dailyswitter.service", histogram = true)
 	@Transactional
 	public PostResponseDto togglePinPost(Long postId) {
 		Post post = postRepository.findById(postId).orElseThrow(
@@ -116,6 +295,7 @@ public class PostService {
 		);
 
 		post.togglePin();
+		postCache.evict(postId);
 		return convertToDto(post);
 	}
 
@@ -125,18 +305,85 @@ public class PostService {
 		);
 	}
 
+	public void increaseCommentCount(Long postId) {
+		postRepository.addCommentCount(postId, 1L);
+		postCache.evict(postId);
+	}
+
+	public void decreaseCommentCount(Long postId) {
+		postRepository.addCommentCount(postId, -1L);
+		postCache.evict(postId);
+	}
+
+	public void applyPendingLikes(List<PostResponseDto> posts) {
+		posts.forEach(post -> post.applyPendingLikes(postLikeCounter.pending(post.getId())));
+	}
+
 	private PostResponseDto convertToDto(Post post) {
 		return PostResponseDto.builder()
+			.id(post.getId())
 			.title(post.getTitle())
 			.contents(post.getContents())
 			.userId(post.getUser().getUserId())
-			.postLikes(post.getPostLikes())
+			.postLikes(post.getPostLikes() + postLikeCounter.pending(post.getId()))
+			.commentCount(post.getCommentCount())
 			.isPinned(post.isPinned())
 			.createdAt(post.getCreatedAt())
 			.updatedAt(post.getUpdatedAt())
 			.build();
 	}
 
+	private BooleanExpression timelineCursorCondition(QPost qPost, String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		Cursor decoded = Cursor.decode(cursor, 3);
+		boolean isPinned = decoded.getBoolean(0);
+		LocalDateTime createdAt = decoded.getDateTime(1);
+		Long id = decoded.getLong(2);
+
+		// (is_pinned DESC, created_at DESC, id DESC) 정렬 기준으로 커서 이후의 행만 조회
+		BooleanExpression afterCursor = qPost.isPinned.eq(isPinned)
+			.and(qPost.createdAt.lt(createdAt)
+				.or(qPost.createdAt.eq(createdAt).and(qPost.id.lt(id))));
+		return isPinned ? qPost.isPinned.isFalse().or(afterCursor) : afterCursor;
+	}
+
+	private BooleanExpression commentCountCursorCondition(QPost qPost, String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		Cursor decoded = Cursor.decode(cursor, 2);
+		Long commentCount = decoded.getLong(0);
+		Long id = decoded.getLong(1);
+
+		// 댓글 수는 조회 사이에 바뀔 수 있어 페이지 경계에서 일부 게시물이 건너뛰어지거나 중복될 수 있다.
+		return qPost.commentCount.lt(commentCount)
+			.or(qPost.commentCount.eq(commentCount).and(qPost.id.lt(id)));
+	}
+
+	private BooleanExpression followedCursorCondition(DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id,
+		String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		Cursor decoded = Cursor.decode(cursor, 2);
+		LocalDateTime lastCreatedAt = decoded.getDateTime(0);
+		Long lastId = decoded.getLong(1);
+
+		// (created_at DESC, id DESC) 정렬 기준으로 커서 이후의 행만 조회
+		return createdAt.lt(lastCreatedAt)
+			.or(createdAt.eq(lastCreatedAt).and(id.lt(lastId)));
+	}
+
+	private String encodeFollowedCursor(PostResponseDto post) {
+		return Cursor.encode(post.getCreatedAt(), post.getId());
+	}
+
+	private String encodeTimelineCursor(PostResponseDto post) {
+		return Cursor.encode(post.isPinned(), post.getCreatedAt(), post.getId());
+	}
+
 	public void checkPostUserFound(Post post, User user) {
 		if (post.getUser().getId().equals(user.getId())) {
 			throw new CustomException(ErrorCode.POST_SAME_USER);
@@ -2,7 +2,11 @@ package com.sparta.dailyswitter.domain.user.dto;
 
 import java.time.LocalDateTime;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
 import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +18,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserResponseDto {
+	private Long id;
 	private String userId;
 	private String username;
 	private String email;
@@ -24,8 +29,29 @@ public class UserResponseDto {
 	private LocalDateTime updatedAt;
 	private Long likedPostsCount;
 	private Long likedCommentsCount;
+	private Long followerCount;
+	private Long followingCount;
+
+	public UserResponseDto(Long id, String userId, String username, String email, String intro, UserRoleEnum role,
+		boolean isBlocked, LocalDateTime createdAt, LocalDateTime updatedAt, Long likedPostsCount,
+		Long likedCommentsCount, Long followerCount, Long followingCount) {
+		this.id = id;
+		this.userId = userId;
+		this.username = username;
+		this.email = email;
+		this.intro = intro;
+		this.role = role.getAuthority();
+		this.isBlocked = isBlocked;
+		this.createdAt = createdAt;
+		this.updatedAt = updatedAt;
+		this.likedPostsCount = likedPostsCount;
+		this.likedCommentsCount = likedCommentsCount;
+		this.followerCount = followerCount;
+		this.followingCount = followingCount;
+	}
 
 	public UserResponseDto(User user) {
+		this.id = user.getId();
 		this.userId = user.getUserId();
 		this.username = user.getUsername();
 		this.email = user.getEmail();
@@ -34,18 +60,33 @@ public class UserResponseDto {
 		this.isBlocked = user.isBlocked();
 		this.createdAt = user.getCreatedAt();
 		this.updatedAt = user.getUpdatedAt();
+		this.likedPostsCount = user.getLikedPostsCount();
+		this.likedCommentsCount = user.getLikedCommentsCount();
+		this.followerCount = user.getFollowerCount();
+		this.followingCount = user.getFollowingCount();
 	}
 
-	public UserResponseDto(User user, Long likedPostsCount, Long likedCommentsCount) {
-		this.userId = user.getUserId();
-		this.username = user.getUsername();
-		this.email = user.getEmail();
-		this.intro = user.getIntro();
-		this.role = user.getRole().getAuthority();
-		this.isBlocked = user.isBlocked();
-		this.createdAt = user.getCreatedAt();
-		this.updatedAt = user.getUpdatedAt();
-		this.likedPostsCount = likedPostsCount;
-		this.likedCommentsCount = likedCommentsCount;
+	public void applyPendingFollowers(long pendingFollowers) {
+		this.followerCount = this.followerCount + pendingFollowers;
+	}
+
+	/**
+	 * 엔티티(비밀번호 이력, 토큰 포함)를 영속성 컨텍스트에 올리지 않고 응답 컬럼만 조회하는 프로젝션.
+	 */
+	public static ConstructorExpression<UserResponseDto> projection(QUser user) {
+		return Projections.constructor(UserResponseDto.class,
+			user.id,
+			user.userId,
+			user.username,
+			user.email,
+			user.intro,
+			user.role,
+			user.isBlocked,
+			user.createdAt,
+			user.updatedAt,
+			user.likedPostsCount,
+			user.likedCommentsCount,
+			user.followerCount,
+			user.followingCount);
 	}
 }
@@ -11,7 +11,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import java.util.ArrayList;
@@ -20,6 +22,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Entity
@@ -27,11 +30,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "users") // 테이블 이름을 'users'로 수정
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_follower_count", columnList = "follower_count")
+}) // 테이블 이름을 'users'로 수정
 public class User extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -76,6 +82,28 @@ public class User extends Timestamped {
     @Column(unique = true)
     private String naverId;
 
+    // 좋아요 수는 좋아요 등록/취소 시 UserRepository 의 상대값 UPDATE 로만 변경한다.
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "liked_posts_count", nullable = false, insertable = false, updatable = false)
+    private Long likedPostsCount = 0L;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "liked_comments_count", nullable = false, insertable = false, updatable = false)
+    private Long likedCommentsCount = 0L;
+
+    // 팔로워/팔로잉 수는 팔로우/언팔로우 시 UserRepository 의 상대값 UPDATE 로만 변경한다.
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "follower_count", nullable = false, insertable = false, updatable = false)
+    private Long followerCount = 0L;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "following_count", nullable = false, insertable = false, updatable = false)
+    private Long followingCount = 0L;
+
     @Builder.Default
     @ElementCollection
     @CollectionTable(name = "password_history", joinColumns = @JoinColumn(name = "user_id"))
@@ -1,9 +1,14 @@
 package com.sparta.dailyswitter.domain.user.repository;
 
 import com.sparta.dailyswitter.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,5 +21,49 @@ public interface UserRepository extends JpaRepository<User, Long>, QuerydslPredi
     Optional<User> findByKakaoId(String kakaoId);
 
     Optional<User> findByNaverId(String naverId);
+
+    @Modifying
+    @Query(value = "UPDATE users SET liked_posts_count = liked_posts_count + :delta WHERE id = :id",
+        nativeQuery = true)
+    int addLikedPostsCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE users SET liked_comments_count = liked_comments_count + :delta WHERE id = :id",
+        nativeQuery = true)
+    int addLikedCommentsCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE users u SET "
+        + "liked_posts_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.user_id = u.id), "
+        + "liked_comments_count = (SELECT COUNT(*) FROM comment_like cl WHERE cl.user_id = u.id) "
+        + "WHERE u.id > :fromId AND u.id <= :toId "
+        + "AND (liked_posts_count <> (SELECT COUNT(*) FROM post_like pl WHERE pl.user_id = u.id) "
+        + "OR liked_comments_count <> (SELECT COUNT(*) FROM comment_like cl WHERE cl.user_id = u.id))",
+        nativeQuery = true)
+    int reconcileLikedCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForShare(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE users SET following_count = following_count + :delta WHERE id = :id",
+        nativeQuery = true)
+    int addFollowingCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM users", nativeQuery = true)
+    long findMaxId();
+
+    @Modifying
+    @Query(value = "UPDATE users u SET "
+        + "following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_user_id = u.id) "
+        + "WHERE u.id > :fromId AND u.id <= :toId "
+        + "AND following_count <> (SELECT COUNT(*) FROM follows f WHERE f.follower_user_id = u.id)",
+        nativeQuery = true)
+    int reconcileFollowingCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
 
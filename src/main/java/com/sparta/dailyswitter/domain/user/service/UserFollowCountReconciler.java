@@ -0,0 +1,40 @@
+package com.sparta.dailyswitter.domain.user.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.dailyswitter.common.util.IdRangeReconciler;
+import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+
+/**
+ * 팔로우/언팔로우 트랜잭션에서 함께 증감하는 users.following_count 를 follows 행 수로 다시 맞춘다.
+ * follower_count 는 반영 대기 중인 증감분을 알아야 하므로 FollowerCountCounter 가 따로 보정한다.
+ */
+@Component
+public class UserFollowCountReconciler extends IdRangeReconciler {
+
+	private final UserRepository userRepository;
+
+	public UserFollowCountReconciler(TransactionTemplate transactionTemplate, UserRepository userRepository,
+		@Value("${user.follow-count.reconcile-batch-size:1000}") int batchSize) {
+		super(transactionTemplate, "사용자 팔로잉 수", batchSize);
+		this.userRepository = userRepository;
+	}
+
+	@Scheduled(cron = "${user.follow-count.reconcile-cron:0 30 4 * * *}")
+	public void scheduledReconcile() {
+		reconcile();
+	}
+
+	@Override
+	protected long findMaxId() {
+		return userRepository.findMaxId();
+	}
+
+	@Override
+	protected int reconcileRange(long from, long to) {
+		return userRepository.reconcileFollowingCounts(from, to);
+	}
+}
@@ -0,0 +1,40 @@
+package com.sparta.dailyswitter.domain.user.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.dailyswitter.common.util.IdRangeReconciler;
+import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+
+/**
+ * users.liked_posts_count, liked_comments_count 를 post_like, comment_like 행 수로 다시 맞춘다.
+ * 게시물/댓글/사용자 삭제로 좋아요 행이 함께 지워지면 상대값 UPDATE 가 일어나지 않아 값이 어긋난다.
+ */
+@Component
+public class UserLikedCountReconciler extends IdRangeReconciler {
+
+	private final UserRepository userRepository;
+
+	public UserLikedCountReconciler(TransactionTemplate transactionTemplate, UserRepository userRepository,
+		@Value("${user.liked-count.reconcile-batch-size:1000}") int batchSize) {
+		super(transactionTemplate, "사용자 좋아요 수", batchSize);
+		this.userRepository = userRepository;
+	}
+
+	@Scheduled(cron = "${user.liked-count.reconcile-cron:0 15 4 * * *}")
+	public void scheduledReconcile() {
+		reconcile();
+	}
+
+	@Override
+	protected long findMaxId() {
+		return userRepository.findMaxId();
+	}
+
+	@Override
+	protected int reconcileRange(long from, long to) {
+		return userRepository.reconcileLikedCounts(from, to);
+	}
+}
@@ -1,10 +1,12 @@
 package com.sparta.dailyswitter.domain.user.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.common.exception.CustomException;
 import com.sparta.dailyswitter.common.exception.ErrorCode;
-import com.sparta.dailyswitter.domain.like.commentlike.entity.QCommentLike;
-import com.sparta.dailyswitter.domain.like.postlike.entity.QPostLike;
+import com.sparta.dailyswitter.common.util.Cursor;
+import com.sparta.dailyswitter.domain.follow.service.FollowerCountCounter;
 import com.sparta.dailyswitter.domain.user.dto.UserInfoRequestDto;
 import com.sparta.dailyswitter.domain.user.dto.UserPwRequestDto;
 import com.sparta.dailyswitter.domain.user.dto.UserResponseDto;
@@ -12,45 +14,79 @@ import com.sparta.dailyswitter.domain.user.dto.UserRoleChangeRequestDto;
 import com.sparta.dailyswitter.domain.user.entity.QUser;
 import com.sparta.dailyswitter.domain.user.entity.User;
 import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+import com.sparta.dailyswitter.security.PrincipalCache;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JPAQueryFactory jpaQueryFactory;
+    private final PrincipalCache principalCache;
+    private final ObjectMapper objectMapper;
+    private final FollowerCountCounter followerCountCounter;
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     public UserResponseDto getUser(Long id) {
         User user = findUserById(id);
         return createUserResponseDto(user);
     }
 
-    public List<UserResponseDto> getAllUsers() {
-        QUser qUser = QUser.user;
-        List<User> users = jpaQueryFactory
-            .selectFrom(qUser)
-            .fetch();
+    @Timed(value = "dailyswitter.service", histogram = true)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<UserResponseDto> getUsers(String cursor, int size) {
+        Long lastId = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor, 1).getLong(0);
+        List<UserResponseDto> users = fetchUsersAfter(lastId, size + 1);
+        users.forEach(user -> user.applyPendingFollowers(followerCountCounter.pending(user.getId())));
+        return CursorResponseDto.of(users, size, user -> Cursor.encode(user.getId()));
+    }
 
-        return users.stream()
-            .map(this::createUserResponseDto)
-            .collect(Collectors.toList());
+    /**
+     * 전체 사용자를 id 순으로 EXPORT_CHUNK_SIZE 씩 끊어 읽으며 한 줄에 하나씩 JSON 으로 쓴다.
+     * open-in-view 로 요청의 EntityManager 가 스트리밍 쓰레드까지 이어지므로 엔티티 대신 DTO 프로젝션으로 읽어
+     * 청크를 몇 번 읽어도 영속성 컨텍스트에 관리 대상이 쌓이지 않게 한다.
+     */
+    @Timed(value = "dailyswitter.service", histogram = true)
+    public void exportUsers(OutputStream outputStream) throws IOException {
+        Long lastId = null;
+        List<UserResponseDto> chunk;
+        do {
+            chunk = fetchUsersAfter(lastId, EXPORT_CHUNK_SIZE);
+            for (UserResponseDto user : chunk) {
+                outputStream.write(objectMapper.writeValueAsBytes(user));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     public UserResponseDto updateUserInfo(Long id, UserInfoRequestDto userInfoRequestDto) {
         User user = findUserById(id);
 
         user.updateUserInfo(userInfoRequestDto);
         userRepository.save(user);
+        principalCache.evict(user.getUserId());
 
         return createUserResponseDto(user);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     public UserResponseDto updatePassword(Long id, UserPwRequestDto userPwRequestDto) {
         User user = findUserById(id);
 
@@ -64,27 +100,35 @@ public class UserService {
 
         user.updatePassword(passwordEncoder.encode(userPwRequestDto.getNewPassword()));
         userRepository.save(user);
+        principalCache.evict(user.getUserId());
 
         return createUserResponseDto(user);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     public UserResponseDto updateUserRole(Long id,
         UserRoleChangeRequestDto userRoleChangeRequestDto) {
         User user = findUserById(id);
         user.updateStatus(userRoleChangeRequestDto.getRole());
         userRepository.save(user);
+        principalCache.evict(user.getUserId());
 
         return createUserResponseDto(user);
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+        User user = findUserById(id);
+        userRepository.delete(user);
+        principalCache.evict(user.getUserId());
     }
 
+    @Timed(value = "dailyswitter.service", histogram = true)
     public UserResponseDto toggleBlockStatus(Long id) {
         User user = findUserById(id);
         user.toggleBlock();
         userRepository.save(user);
+        principalCache.evict(user.getUserId());
 
         return createUserResponseDto(user);
     }
@@ -102,28 +146,21 @@ public class UserService {
         return user;
     }
 
-    private UserResponseDto createUserResponseDto(User user) {
-        Long likedPostsCount = getLikedPostsCount(user);
-        Long likedCommentsCount = getLikedCommentsCount(user);
-        return new UserResponseDto(user, likedPostsCount, likedCommentsCount);
-    }
-
-    private Long getLikedPostsCount(User user) {
-        QPostLike qPostLike = QPostLike.postLike;
+    private List<UserResponseDto> fetchUsersAfter(Long lastId, int limit) {
+        QUser qUser = QUser.user;
         return jpaQueryFactory
-            .select(qPostLike.count())
-            .from(qPostLike)
-            .where(qPostLike.id.user.eq(user))
-            .fetchOne();
+            .select(UserResponseDto.projection(qUser))
+            .from(qUser)
+            .where(lastId == null ? null : qUser.id.gt(lastId))
+            .orderBy(qUser.id.asc())
+            .limit(limit)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, Math.min(limit, EXPORT_CHUNK_SIZE))
+            .fetch();
     }
 
-    private Long getLikedCommentsCount(User user) {
-        QCommentLike qCommentLike = QCommentLike.commentLike;
-        return jpaQueryFactory
-            .select(qCommentLike.count())
-            .from(qCommentLike)
-            .where(qCommentLike.id.user.eq(user))
-            .fetchOne();
+    private UserResponseDto createUserResponseDto(User user) {
+        UserResponseDto responseDto = new UserResponseDto(user);
+        responseDto.applyPendingFollowers(followerCountCounter.pending(user.getId()));
+        return responseDto;
     }
 }
-
@@ -27,6 +27,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 	private final JwtUtil jwtUtil;
 	private final AuthenticationManager authenticationManager;
 	private final UserRepository userRepository;
+	private final PrincipalCache principalCache;
 
 	@Override
 	public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
@@ -58,6 +59,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
 		user.updateRefresh(refreshToken);
 		userRepository.save(user);
+		principalCache.evict(userId);
 	}
 
 	@Override
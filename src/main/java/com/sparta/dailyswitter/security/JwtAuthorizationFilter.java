@@ -6,11 +6,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.sparta.dailyswitter.common.exception.CustomException;
-import com.sparta.dailyswitter.common.exception.ErrorCode;
-import com.sparta.dailyswitter.domain.user.entity.User;
-import com.sparta.dailyswitter.domain.user.repository.UserRepository;
-
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,7 +19,6 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	private final JwtUtil jwtUtil;
 	private final UserDetailsServiceImpl userDetailsService;
-	private final UserRepository userRepository;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -32,19 +26,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
 		log.info(tokenValue);
 		if (tokenValue != null && !tokenValue.isEmpty()) {
-			if (!jwtUtil.validateToken(tokenValue)) {
-				log.error("Token Error");
-				response.sendError(HttpServletResponse.SC_FORBIDDEN, "유효하지 않은 토큰입니다.");
-				return;
-			}
 			Claims claims = jwtUtil.getUserInfoFromToken(tokenValue);
 			log.info("Subject: " + claims.getSubject());
-			String userId = claims.getSubject();
-
-			User user = userRepository.findByUserId(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-			if (!user.isExist()) {
-				throw new CustomException(ErrorCode.USER_NOT_FOUND);
-			}
+			// 탈퇴 여부는 loadUserByUsername 에서 함께 확인한다.
 			setAuthentication(claims.getSubject());
 		}
 		filterChain.doFilter(request, response);
@@ -22,13 +22,8 @@ public class JwtFilter extends OncePerRequestFilter {
 		String token = jwtUtil.getJwtFromHeader(request);
 
 		if (token != null && !token.isEmpty()) {
-			if (jwtUtil.validateToken(token)) {
-				Claims claims = jwtUtil.getUserInfoFromToken(token);
-				request.setAttribute("username", claims.getSubject());
-			} else {
-				response.sendError(HttpServletResponse.SC_FORBIDDEN, "유효하지 않은 토큰입니다.");
-				return;
-			}
+			Claims claims = jwtUtil.getUserInfoFromToken(token);
+			request.setAttribute("username", claims.getSubject());
 		}
 
 		filterChain.doFilter(request, response);
@@ -1,6 +1,7 @@
 package com.sparta.dailyswitter.security;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 
 import javax.crypto.spec.SecretKeySpec;
@@ -9,33 +10,89 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.sparta.dailyswitter.common.exception.CustomException;
 import com.sparta.dailyswitter.common.exception.ErrorCode;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class JwtUtil {
 
+	private final MeterRegistry meterRegistry;
+
 	@Value("${JWT_SECRET_KEY}")
 	private String secretKey;
 
+	@Value("${jwt.verified-cache.max-size:10000}")
+	private long verifiedCacheMaxSize;
+
+	private Key signingKey;
+	private JwtParser jwtParser;
+	// 서명 검증을 마친 토큰의 Claims. 토큰 만료 시각에 맞춰 제거되며 호출부는 읽기만 한다.
+	private Cache<String, Claims> verifiedTokens;
+	// 캐시에 없는 토큰의 서명 검증 시간. 캐시 적중은 verifiedTokens 캐시 지표로 본다.
+	private Timer verifyTimer;
+
 	public static final String AUTHORIZATION_HEADER = "Authorization";
 	public static final String REFRESH_TOKEN_HEADER = "RefreshToken";
 	public static final String BEARER_PREFIX = "Bearer ";
+	private static final Duration DEFAULT_VERIFIED_TTL = Duration.ofMinutes(30);
+
+	@PostConstruct
+	public void init() {
+		signingKey = new SecretKeySpec(secretKey.getBytes(), SignatureAlgorithm.HS256.getJcaName());
+		jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+		verifiedTokens = Caffeine.newBuilder()
+			.maximumSize(verifiedCacheMaxSize)
+			.expireAfter(new Expiry<String, Claims>() {
+				@Override
+				public long expireAfterCreate(String token, Claims claims, long currentTime) {
+					if (claims.getExpiration() == null) {
+						return DEFAULT_VERIFIED_TTL.toNanos();
+					}
+					long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+					return Duration.ofMillis(Math.max(remainingMillis, 0L)).toNanos();
+				}
+
+				@Override
+				public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+
+				@Override
+				public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokens");
+		verifyTimer = Timer.builder("jwt.verify")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
 
 	private Key getSigningKey() {
-		byte[] keyBytes = secretKey.getBytes();
-		return new SecretKeySpec(keyBytes, SignatureAlgorithm.HS256.getJcaName());
+		return signingKey;
 	}
 
 	public String createToken(String userId) {
@@ -65,9 +122,24 @@ public class JwtUtil {
 	}
 
 	public boolean validateToken(String token) {
+		verifyToken(token);
+		return true;
+	}
+
+	public Claims getUserInfoFromToken(String token) {
+		return verifyToken(token);
+	}
+
+	private Claims verifyToken(String token) {
+		if (token == null) {
+			throw new CustomException(ErrorCode.ILLEGAL_TOKEN);
+		}
+		return verifiedTokens.get(token, key -> verifyTimer.record(() -> parseClaims(key)));
+	}
+
+	private Claims parseClaims(String token) {
 		try {
-			Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-			return true;
+			return jwtParser.parseClaimsJws(token).getBody();
 		} catch (SecurityException | MalformedJwtException | SignatureException e) {
 			throw new CustomException(ErrorCode.INVALID_SIGNATURE);
 		} catch (UnsupportedJwtException e) {
@@ -79,10 +151,6 @@ public class JwtUtil {
 		}
 	}
 
-	public Claims getUserInfoFromToken(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
-	}
-
 	public String substringToken(String token) {
 		if (StringUtils.hasText(token) && token.startsWith(BEARER_PREFIX)) {
 			return token.substring(7);
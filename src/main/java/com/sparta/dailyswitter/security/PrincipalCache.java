@@ -0,0 +1,55 @@
+package com.sparta.dailyswitter.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.dailyswitter.domain.user.entity.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 인증된 요청마다 로그인 id 로 사용자를 다시 조회하지 않도록 짧은 TTL 로 보관하는 캐시.
+ * 권한 변경, 차단, 탈퇴, 비밀번호/토큰 변경처럼 사용자 행이 바뀌는 곳에서는 반드시 evict 한다.
+ */
+@Component
+public class PrincipalCache {
+
+	private final Cache<String, User> principals;
+
+	public PrincipalCache(@Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+		@Value("${security.principal-cache.max-size:100000}") long maxSize, MeterRegistry meterRegistry) {
+		this.principals = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.maximumSize(maxSize)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+	}
+
+	public User get(String userId, Function<String, User> loader) {
+		return principals.get(userId, loader);
+	}
+
+	/**
+	 * 바로 지우고, 트랜잭션 안이라면 커밋 이후에 한 번 더 지워 그 사이 다시 올라온 이전 값도 제거한다.
+	 */
+	public void evict(String userId) {
+		principals.invalidate(userId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					principals.invalidate(userId);
+				}
+			});
+		}
+	}
+}
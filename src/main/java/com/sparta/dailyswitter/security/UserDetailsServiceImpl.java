@@ -16,11 +16,12 @@ import com.sparta.dailyswitter.domain.user.repository.UserRepository;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
 	private final UserRepository userRepository;
+	private final PrincipalCache principalCache;
 
 	@Override
 	public UserDetailsImpl loadUserByUsername(String userId) throws UsernameNotFoundException {
-		User user = userRepository.findByUserId(userId)
-			.orElseThrow(()-> new CustomException(ErrorCode.USER_NOT_FOUND));
+		User user = principalCache.get(userId, id -> userRepository.findByUserId(id)
+			.orElseThrow(()-> new CustomException(ErrorCode.USER_NOT_FOUND)));
 
 		if(!user.isExist()) {
 			throw new CustomException(ErrorCode.USER_NOT_FOUND);
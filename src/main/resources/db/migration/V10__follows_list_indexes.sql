@@ -0,0 +1,6 @@
+-- 팔로워/팔로잉 목록을 (created_at, 상대 사용자 id) 키셋으로 읽기 위한 인덱스.
+-- 팔로워 인덱스는 fan-out 의 following_user_id 조회도 그대로 덮는다.
+
+create index idx_follows_following_created on follows (following_user_id, created_at, follower_user_id);
+create index idx_follows_follower_created on follows (follower_user_id, created_at, following_user_id);
+drop index idx_follows_following_follower on follows;
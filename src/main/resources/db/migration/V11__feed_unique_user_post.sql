@@ -0,0 +1,7 @@
+-- 같은 (user_id, post_id) 가 두 번 펼쳐지면 피드 한 페이지에 같은 게시물이 두 번 나오고 hasNext 판정이 어긋난다.
+-- 이미 생긴 중복은 가장 먼저 들어간 행만 남기고 지운 뒤 유일 제약을 건다. 이후 INSERT 는 모두 INSERT IGNORE 로 중복을 건너뛴다.
+
+delete fd from feed fd
+    join feed keep on keep.user_id = fd.user_id and keep.post_id = fd.post_id and keep.id < fd.id;
+
+alter table feed add constraint uk_feed_user_post unique (user_id, post_id);
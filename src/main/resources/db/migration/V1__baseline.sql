@@ -0,0 +1,88 @@
+-- Flyway 도입 전 ddl-auto=update 로 운영되던 스키마.
+-- 이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전만 건너뛰고 V2 부터 적용하므로, 이후 추가된 객체는 여기에 넣지 않는다.
+
+create table users (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    login_id varchar(255) not null,
+    user_name varchar(255),
+    password varchar(255),
+    email varchar(255),
+    provider varchar(255),
+    provider_id varchar(255),
+    intro varchar(255),
+    refresh_token varchar(255),
+    access_token varchar(255),
+    is_blocked bit not null,
+    role enum ('USER','ADMIN','WITHDRAW') not null,
+    kakao_id varchar(255),
+    naver_id varchar(255),
+    primary key (id),
+    constraint uk_users_login_id unique (login_id),
+    constraint uk_users_kakao_id unique (kakao_id),
+    constraint uk_users_naver_id unique (naver_id)
+) engine=InnoDB;
+
+create table password_history (
+    user_id bigint not null,
+    password_history varchar(255),
+    constraint fk_password_history_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+create table post (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    title varchar(255) not null,
+    contents varchar(255) not null,
+    is_pinned bit not null,
+    user_id bigint not null,
+    post_likes bigint,
+    primary key (id),
+    constraint fk_post_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+create table comment (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    user_id bigint,
+    post_id bigint,
+    content varchar(255),
+    comment_likes bigint,
+    primary key (id),
+    constraint fk_comment_user foreign key (user_id) references users (id),
+    constraint fk_comment_post foreign key (post_id) references post (id)
+) engine=InnoDB;
+
+create table follows (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    following_user_id bigint,
+    follower_user_id bigint,
+    primary key (id),
+    constraint fk_follows_following_user foreign key (following_user_id) references users (id),
+    constraint fk_follows_follower_user foreign key (follower_user_id) references users (id)
+) engine=InnoDB;
+
+create table post_like (
+    post_id bigint not null,
+    user_id bigint not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (post_id, user_id),
+    constraint fk_post_like_post foreign key (post_id) references post (id),
+    constraint fk_post_like_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+create table comment_like (
+    comment_id bigint not null,
+    user_id bigint not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (comment_id, user_id),
+    constraint fk_comment_like_comment foreign key (comment_id) references comment (id),
+    constraint fk_comment_like_user foreign key (user_id) references users (id)
+) engine=InnoDB;
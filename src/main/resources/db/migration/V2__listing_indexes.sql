@@ -0,0 +1,5 @@
+-- 게시물 타임라인과 댓글 목록을 (created_at, id) 키셋으로 읽기 위한 인덱스.
+
+create index idx_post_pinned_created_id on post (is_pinned, created_at, id);
+create index idx_comment_created_id on comment (created_at, id);
+create index idx_comment_post_created_id on comment (post_id, created_at, id);
@@ -0,0 +1,14 @@
+-- 팔로워별로 미리 펼쳐 둔(fan-out) 홈 피드.
+
+create table feed (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    post_id bigint not null,
+    author_id bigint not null,
+    created_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_feed_user_created on feed (user_id, created_at);
+create index idx_feed_user_author on feed (user_id, author_id);
+create index idx_feed_post on feed (post_id);
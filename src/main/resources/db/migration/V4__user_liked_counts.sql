@@ -0,0 +1,9 @@
+-- 사용자별 좋아요한 게시물/댓글 수. 이후로는 좋아요 등록/취소 때 상대값으로만 고친다.
+
+alter table users
+    add column liked_posts_count bigint default 0 not null,
+    add column liked_comments_count bigint default 0 not null;
+
+update users u
+set liked_posts_count = (select count(*) from post_like pl where pl.user_id = u.id),
+    liked_comments_count = (select count(*) from comment_like cl where cl.user_id = u.id);
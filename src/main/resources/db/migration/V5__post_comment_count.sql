@@ -0,0 +1,8 @@
+-- 게시물별 댓글 수. 이후로는 댓글 등록/삭제 때 상대값으로만 고친다.
+
+alter table post add column comment_count bigint default 0 not null;
+
+update post p
+set comment_count = (select count(*) from comment c where c.post_id = p.id);
+
+create index idx_post_comment_count_id on post (comment_count, id);
@@ -0,0 +1,18 @@
+-- ddl-auto=update 시절에 만들어진 DB 는 시퀀스 테이블이 없거나 1 에서 시작해 기존 id 와 겹칠 수 있다.
+-- pooled 최적화기는 읽은 값을 블록의 상한으로 보고 (값 - 49) 부터 발급하므로 MAX(id) + 50 이상으로 맞춘다.
+
+create table if not exists users_seq (next_val bigint) engine=InnoDB;
+insert into users_seq (next_val) select 1 from dual where not exists (select 1 from users_seq);
+update users_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + 50 from users));
+
+create table if not exists post_seq (next_val bigint) engine=InnoDB;
+insert into post_seq (next_val) select 1 from dual where not exists (select 1 from post_seq);
+update post_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + 50 from post));
+
+create table if not exists comment_seq (next_val bigint) engine=InnoDB;
+insert into comment_seq (next_val) select 1 from dual where not exists (select 1 from comment_seq);
+update comment_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + 50 from comment));
+
+create table if not exists follows_seq (next_val bigint) engine=InnoDB;
+insert into follows_seq (next_val) select 1 from dual where not exists (select 1 from follows_seq);
+update follows_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + 50 from follows));
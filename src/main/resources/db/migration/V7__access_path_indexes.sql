@@ -0,0 +1,14 @@
+-- 서비스/리포지토리가 실제로 실행하는 조회 경로별 인덱스.
+
+-- 팔로우 여부 확인, 팔로잉 목록 (FollowService, FeedService)
+create index idx_follows_follower_following on follows (follower_user_id, following_user_id);
+-- 팔로워 목록, 새 글 fan-out (FeedRepository.fanOut*)
+create index idx_follows_following_follower on follows (following_user_id, follower_user_id);
+
+-- 작성자별 최신 글, 팔로우 시 backfill (FeedRepository.backfill, pull 피드)
+create index idx_post_user_created_id on post (user_id, created_at, id);
+
+-- 사용자가 좋아요한 게시물/댓글 (PostLikeService, CommentLikeService, LikedSetCache)
+-- PK 는 (post_id, user_id), (comment_id, user_id) 순서라 사용자 기준 조회에는 쓰이지 않는다.
+create index idx_post_like_user_post on post_like (user_id, post_id);
+create index idx_comment_like_user_comment on comment_like (user_id, comment_id);
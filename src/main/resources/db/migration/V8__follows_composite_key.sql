@@ -0,0 +1,23 @@
+-- follows 의 대리키 id 를 없애고 (follower_user_id, following_user_id) 를 PK 로 삼는다.
+-- 팔로우 중복은 PK 가 막고, 등록은 FollowRepository.insertIfAbsent 의 INSERT ... SELECT ... WHERE NOT EXISTS 한 문장으로 끝난다.
+
+delete f1 from follows f1
+    join follows f2
+        on f1.follower_user_id = f2.follower_user_id
+        and f1.following_user_id = f2.following_user_id
+        and f1.id > f2.id;
+delete from follows where follower_user_id is null or following_user_id is null;
+
+alter table follows
+    modify follower_user_id bigint not null,
+    modify following_user_id bigint not null;
+
+alter table follows
+    drop primary key,
+    drop column id,
+    add primary key (follower_user_id, following_user_id);
+
+-- PK 가 같은 컬럼 순서로 대신한다.
+drop index idx_follows_follower_following on follows;
+
+drop table if exists follows_seq;
@@ -0,0 +1,12 @@
+-- 프로필 조회 시 follows 를 세지 않도록 팔로워/팔로잉 수를 users 에 둔다.
+
+alter table users
+    add column follower_count bigint default 0 not null,
+    add column following_count bigint default 0 not null;
+
+update users u
+set follower_count = (select count(*) from follows f where f.following_user_id = u.id),
+    following_count = (select count(*) from follows f where f.follower_user_id = u.id);
+
+-- FeedService 가 팔로워 수 임계치를 넘는 작성자를 찾을 때 사용한다.
+create index idx_users_follower_count on users (follower_count);
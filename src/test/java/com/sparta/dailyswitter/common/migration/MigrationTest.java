@@ -0,0 +1,64 @@
+package com.sparta.dailyswitter.common.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.dailyswitter.common.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * db/migration 을 빈 MySQL 에 V1 부터 적용한 스키마가 엔티티와 맞는지 확인한다.
+ * 컬럼과 타입은 MySqlIntegrationTest 의 ddl-auto=validate 가 컨텍스트를 띄우며 대조하고,
+ * Hibernate 가 검사하지 않는 인덱스는 엔티티 @Index 이름이 스키마에 있는지 직접 확인한다.
+ */
+class MigrationTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("모든 마이그레이션이 적용되고 엔티티 검증(ddl-auto=validate)을 통과함")
+    void migrate_AllApplied() {
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals(flyway.info().all().length, flyway.info().applied().length);
+    }
+
+    @Test
+    @DisplayName("엔티티에 선언한 인덱스가 모두 마이그레이션으로 만들어짐")
+    void migrate_CreatesEntityIndexes() {
+        Set<String> declared = new HashSet<>();
+        entityManager.getMetamodel().getEntities().forEach(entity -> {
+            Table table = entity.getJavaType().getAnnotation(Table.class);
+            if (table != null) {
+                for (Index index : table.indexes()) {
+                    declared.add(index.name());
+                }
+            }
+        });
+        List<String> migrated = jdbcTemplate.queryForList(
+            "SELECT DISTINCT index_name FROM information_schema.statistics WHERE table_schema = DATABASE()",
+            String.class);
+
+        assertTrue(migrated.containsAll(declared), () -> {
+            Set<String> missing = new HashSet<>(declared);
+            missing.removeAll(migrated);
+            return "마이그레이션에 없는 인덱스: " + missing;
+        });
+    }
+}
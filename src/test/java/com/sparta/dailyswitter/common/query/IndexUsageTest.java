@@ -0,0 +1,185 @@
+package com.sparta.dailyswitter.common.query;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.dailyswitter.domain.comment.dto.CommentRequestDto;
+import com.sparta.dailyswitter.domain.comment.entity.Comment;
+import com.sparta.dailyswitter.domain.comment.service.CommentService;
+import com.sparta.dailyswitter.domain.feed.service.FeedService;
+import com.sparta.dailyswitter.domain.follow.repository.FollowRepository;
+import com.sparta.dailyswitter.domain.follow.service.FollowService;
+import com.sparta.dailyswitter.domain.like.service.LikedSetCache;
+import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.post.service.PostService;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
+import jakarta.persistence.EntityManager;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조회 경로마다 실제로 생성된 SQL 이 의도한 인덱스를 타는지 H2(MODE=MySQL) 실행 계획으로 확인한다.
+ * 서비스/리포지토리를 호출하는 동안 QueryCountInspector 를 거친 SQL 을 모아, 바인딩 자리에 1 을 넣어 EXPLAIN 한다.
+ * 여기서 쓰는 스키마는 엔티티로 만든 것이므로, 같은 인덱스가 db/migration 에도 있는지는 MigrationTest 가 MySQL 에서 확인한다.
+ */
+@SpringBootTest
+@Transactional
+class IndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private LikedSetCache likedSetCache;
+
+    private User follower;
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        follower = persistUser("indexfollower");
+        author = persistUser("indexauthor");
+        post = Post.builder()
+            .title("title")
+            .contents("contents")
+            .user(author)
+            .build();
+        entityManager.persist(post);
+        entityManager.persist(Comment.builder()
+            .user(follower)
+            .post(post)
+            .requestDto(CommentRequestDto.builder().content("comment").build())
+            .build());
+        entityManager.flush();
+        followRepository.insertIfAbsent(follower.getId(), author.getId());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("언팔로우는 follows PK 로 찾음")
+    void unfollow_UsesPrimaryKey() {
+        assertUsesIndex("follows", "primary_key",
+            () -> followRepository.deleteIfPresent(follower.getId(), author.getId()));
+    }
+
+    @Test
+    @DisplayName("팔로워 목록은 (following_user_id, created_at) 인덱스를 사용")
+    void getFollowers_UsesIndex() {
+        assertUsesIndex("follows", "idx_follows_following_created",
+            () -> followService.getFollowers(author.getId(), null, 20));
+    }
+
+    @Test
+    @DisplayName("팔로잉 목록은 (follower_user_id, created_at) 인덱스를 사용")
+    void getFollowing_UsesIndex() {
+        assertUsesIndex("follows", "idx_follows_follower_created",
+            () -> followService.getFollowing(follower.getId(), null, 20));
+    }
+
+    @Test
+    @DisplayName("펼쳐진 피드는 (user_id, created_at) 인덱스를 사용")
+    void getFollowedPosts_Feed_UsesIndex() {
+        assertUsesIndex("feed", "idx_feed_user_created",
+            () -> postService.getFollowedPosts(follower, null, 20));
+    }
+
+    @Test
+    @DisplayName("pull 작성자의 게시물은 (user_id, created_at, id) 인덱스를 사용")
+    void getFollowedPosts_Pull_UsesIndex() {
+        Object target = AopTestUtils.getTargetObject(feedService);
+        ReflectionTestUtils.setField(target, "pullAuthorIds", Set.of(author.getId()));
+        try {
+            assertUsesIndex("post", "idx_post_user_created_id",
+                () -> postService.getFollowedPosts(follower, null, 20));
+        } finally {
+            ReflectionTestUtils.setField(target, "pullAuthorIds", Collections.emptySet());
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 목록은 (post_id, created_at, id) 인덱스를 사용")
+    void getComments_UsesIndex() {
+        assertUsesIndex("comment", "idx_comment_post_created_id",
+            () -> commentService.getComments(post.getId(), null, 20));
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시물 id 는 (user_id, post_id) 인덱스로 읽음")
+    void likedPostIds_UsesIndex() {
+        assertUsesIndex("post_like", "idx_post_like_user_post",
+            () -> likedSetCache.getLikedPostIds(follower.getId()));
+    }
+
+    @Test
+    @DisplayName("좋아요한 댓글 id 는 (user_id, comment_id) 인덱스로 읽음")
+    void likedCommentIds_UsesIndex() {
+        assertUsesIndex("comment_like", "idx_comment_like_user_comment",
+            () -> likedSetCache.getLikedCommentIds(follower.getId()));
+    }
+
+    /**
+     * action 이 실행한 SQL 중 table 을 FROM 절 첫 테이블로 읽는 문장이 모두 index 를 타는지 확인한다.
+     */
+    private void assertUsesIndex(String table, String index, Runnable action) {
+        List<String> statements;
+        QueryCounter.startCapture();
+        try {
+            action.run();
+            statements = QueryCounter.statements();
+        } finally {
+            QueryCounter.stop();
+        }
+
+        List<String> matched = statements.stream()
+            .filter(sql -> sql.toLowerCase().contains("from " + table + " "))
+            .toList();
+        assertFalse(matched.isEmpty(), table + " 를 읽는 SQL 이 없습니다: " + statements);
+
+        for (String sql : matched) {
+            String plan = String.join("\n",
+                jdbcTemplate.queryForList("EXPLAIN " + sql.replace("?", "1"), String.class));
+            assertTrue(plan.toLowerCase().contains(index), sql + "\n" + plan);
+        }
+    }
+
+    private User persistUser(String loginId) {
+        User user = User.builder()
+            .userId(loginId)
+            .username(loginId)
+            .password("Password1!")
+            .role(UserRoleEnum.USER)
+            .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
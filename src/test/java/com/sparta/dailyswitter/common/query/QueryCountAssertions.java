@@ -0,0 +1,27 @@
+package com.sparta.dailyswitter.common.query;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+
+/**
+ * 스프링 컨텍스트를 띄운 테스트에서 특정 호출이 실행하는 SQL 문 수의 상한을 검증한다.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxQueries(int maxQueries, Supplier<T> action) {
+        QueryCounter.start();
+        try {
+            T result = action.get();
+            int count = QueryCounter.current();
+            assertTrue(count <= maxQueries,
+                "쿼리 " + maxQueries + "회 이하를 기대했지만 " + count + "회 실행되었습니다.");
+            return result;
+        } finally {
+            QueryCounter.stop();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.dailyswitter.common.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 잠금 순서, 마이그레이션처럼 H2 로는 확인할 수 없는 동작을 실제 MySQL(InnoDB) 에서 확인하는 테스트의 공통 설정.
+ * 스키마는 Flyway 로 V1 부터 만들고 엔티티와 ddl-auto=validate 로 대조하므로, 마이그레이션과 엔티티가 어긋나면 컨텍스트가 뜨지 않는다.
+ * 컨테이너는 테스트 클래스끼리 공유하고 Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+    "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.flyway.enabled=true"
+})
+public abstract class MySqlIntegrationTest {
+
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        MYSQL.start();
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparta.dailyswitter.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.dailyswitter.common.exception.CustomException;
+import com.sparta.dailyswitter.common.exception.ErrorCode;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩 시 원래 값 복원")
+    void encodeAndDecode() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 7, 1, 12, 30, 15, 123456000);
+
+        String encoded = Cursor.encode(true, createdAt, 42L);
+        Cursor decoded = Cursor.decode(encoded, 3);
+
+        assertTrue(decoded.getBoolean(0));
+        assertEquals(createdAt, decoded.getDateTime(1));
+        assertEquals(42L, decoded.getLong(2));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 디코딩 시 예외발생")
+    void decode_InvalidCursor() {
+        CustomException exception = assertThrows(CustomException.class,
+            () -> Cursor.decode("not-a-cursor!", 3));
+
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("커서 값 개수가 다를 경우 예외발생")
+    void decode_SizeMismatch() {
+        String encoded = Cursor.encode(1L, 2L);
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> Cursor.decode(encoded, 3));
+
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    }
+}
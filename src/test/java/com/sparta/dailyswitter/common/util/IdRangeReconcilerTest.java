@@ -0,0 +1,57 @@
+package com.sparta.dailyswitter.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class IdRangeReconcilerTest {
+
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final List<long[]> ranges = new ArrayList<>();
+
+    private IdRangeReconciler reconciler(long maxId) {
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        return new IdRangeReconciler(transactionTemplate, "테스트", 10) {
+            @Override
+            protected long findMaxId() {
+                return maxId;
+            }
+
+            @Override
+            protected int reconcileRange(long from, long to) {
+                ranges.add(new long[] {from, to});
+                return 1;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("최대 id 까지 배치 크기 구간마다 따로 보정하고 보정 건수를 합산함")
+    void reconcileInRanges() {
+        int repaired = reconciler(25L).reconcile();
+
+        assertEquals(3, repaired);
+        assertEquals(3, ranges.size());
+        assertEquals(0L, ranges.get(0)[0]);
+        assertEquals(10L, ranges.get(0)[1]);
+        assertEquals(20L, ranges.get(2)[0]);
+        assertEquals(30L, ranges.get(2)[1]);
+    }
+
+    @Test
+    @DisplayName("행이 없으면 보정하지 않음")
+    void reconcileEmpty() {
+        assertEquals(0, reconciler(0L).reconcile());
+        assertEquals(0, ranges.size());
+    }
+}
@@ -0,0 +1,66 @@
+package com.sparta.dailyswitter.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SortedLongSetTest {
+
+    @Test
+    @DisplayName("중복을 제거하고 정렬된 집합으로 생성됨")
+    void of() {
+        SortedLongSet set = SortedLongSet.of(List.of(5L, 1L, 3L, 1L));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains(1L));
+        assertTrue(set.contains(3L));
+        assertTrue(set.contains(5L));
+        assertFalse(set.contains(2L));
+    }
+
+    @Test
+    @DisplayName("with 는 원본을 바꾸지 않고 id 가 추가된 집합을 반환함")
+    void with() {
+        SortedLongSet set = SortedLongSet.of(List.of(1L, 5L));
+
+        SortedLongSet added = set.with(3L);
+
+        assertEquals(3, added.size());
+        assertTrue(added.contains(3L));
+        assertFalse(set.contains(3L));
+        assertSame(added, added.with(3L));
+    }
+
+    @Test
+    @DisplayName("without 은 id 가 제거된 집합을 반환하고 없는 id 는 무시함")
+    void without() {
+        SortedLongSet set = SortedLongSet.of(List.of(1L, 3L, 5L));
+
+        SortedLongSet removed = set.without(3L);
+
+        assertEquals(2, removed.size());
+        assertFalse(removed.contains(3L));
+        assertTrue(removed.contains(5L));
+        assertSame(removed, removed.without(4L));
+        assertEquals(0, SortedLongSet.empty().without(1L).size());
+    }
+
+    @Test
+    @DisplayName("toArray 는 오름차순 복사본을 반환해 원본에 영향을 주지 않음")
+    void toArray() {
+        SortedLongSet set = SortedLongSet.of(List.of(5L, 1L, 3L));
+
+        long[] ids = set.toArray();
+        ids[0] = 100L;
+
+        assertArrayEquals(new long[] {1L, 3L, 5L}, set.toArray());
+        assertTrue(SortedLongSet.empty().isEmpty());
+        assertFalse(set.isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package com.sparta.dailyswitter.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class WriteBehindColumnCounterTest {
+
+    private final WriteBehindColumnCounter counter = new WriteBehindColumnCounter(mock(JdbcTemplate.class),
+        mock(TransactionTemplate.class), "comment", "comment_likes",
+        "SELECT COUNT(*) FROM comment_like cl WHERE cl.comment_id = t.id", 1000) {
+    };
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 증감분은 커밋된 뒤에 쌓임")
+    void increment_AfterCommit() {
+        counter.increment(1L);
+        assertEquals(0L, counter.pending(1L));
+
+        commit();
+
+        assertEquals(1L, counter.pending(1L));
+        assertFalse(counter.isCommitting(1L));
+    }
+
+    @Test
+    @DisplayName("롤백된 증감분은 쌓이지 않음")
+    void increment_RolledBack() {
+        counter.increment(1L);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertEquals(0L, counter.pending(1L));
+        assertFalse(counter.isCommitting(1L));
+    }
+
+    @Test
+    @DisplayName("커밋 중인 id 는 완료 전까지 committing 으로 보임")
+    void isCommitting() {
+        counter.decrement(1L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        assertTrue(counter.isCommitting(1L));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertFalse(counter.isCommitting(1L));
+        assertEquals(-1L, counter.pending(1L));
+    }
+
+    @Test
+    @DisplayName("id 구간 안에 커밋 중인 id 가 있는지 확인")
+    void hasCommitting() {
+        counter.increment(5L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+        assertTrue(counter.hasCommitting(4L, 5L));
+        assertFalse(counter.hasCommitting(5L, 10L));
+        assertFalse(counter.hasCommitting(0L, 4L));
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertFalse(counter.hasCommitting(4L, 5L));
+    }
+
+    private void commit() {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
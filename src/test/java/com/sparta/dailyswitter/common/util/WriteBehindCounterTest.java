@@ -0,0 +1,119 @@
+package com.sparta.dailyswitter.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WriteBehindCounterTest {
+
+    private final WriteBehindCounter counter = new WriteBehindCounter();
+
+    @Test
+    @DisplayName("반영 전 증감분이 pending 으로 조회됨")
+    void pending() {
+        counter.add(1L, 1L);
+        counter.add(1L, 1L);
+        counter.add(1L, -1L);
+        counter.add(2L, 1L);
+
+        assertEquals(1L, counter.pending(1L));
+        assertEquals(1L, counter.pending(2L));
+        assertEquals(0L, counter.pending(3L));
+    }
+
+    @Test
+    @DisplayName("증감분은 한 주기 늦게 반영되고 반영 후 pending 에서 빠짐")
+    void flush() {
+        Map<Long, Long> written = new HashMap<>();
+        counter.add(1L, 3L);
+
+        counter.flush(written::putAll);
+        assertTrue(written.isEmpty());
+        assertEquals(3L, counter.pending(1L));
+
+        counter.flush(written::putAll);
+        assertEquals(3L, written.get(1L));
+        assertEquals(0L, counter.pending(1L));
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감분이 유지됨")
+    void flush_WriterFailed() {
+        counter.add(1L, 2L);
+        counter.flush(deltas -> {
+        });
+
+        assertThrows(IllegalStateException.class, () -> counter.flush(deltas -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(2L, counter.pending(1L));
+
+        Map<Long, Long> written = new HashMap<>();
+        counter.flushAll(written::putAll);
+        assertEquals(2L, written.get(1L));
+        assertEquals(0L, counter.pending(1L));
+    }
+
+    @Test
+    @DisplayName("flush 중에 읽은 pending 은 DB 값과 합쳐도 같은 증감분을 두 번 세지 않음")
+    void pending_DuringFlush() throws Exception {
+        counter.add(1L, 5L);
+        counter.flush(deltas -> {
+        });
+
+        AtomicLong db = new AtomicLong();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> flush = executor.submit(() -> counter.flush((deltas, markWritten) -> {
+                writing.countDown();
+                await(proceed);
+                db.addAndGet(deltas.get(1L));
+                markWritten.run();
+                written.countDown();
+                await(release);
+            }));
+
+            // 반영 전: 증감분은 flushing 으로만 보임
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            assertEquals(5L, db.get() + counter.pending(1L));
+            counter.add(1L, 1L);
+            assertEquals(6L, db.get() + counter.pending(1L));
+
+            // 반영 직후, flush 가 끝나기 전: DB 값에 포함된 증감분은 pending 에서 빠짐
+            proceed.countDown();
+            assertTrue(written.await(5, TimeUnit.SECONDS));
+            assertEquals(5L, db.get());
+            assertEquals(1L, counter.pending(1L));
+
+            release.countDown();
+            flush.get(5, TimeUnit.SECONDS);
+            assertEquals(1L, counter.pending(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
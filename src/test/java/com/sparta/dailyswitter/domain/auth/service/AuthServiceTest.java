@@ -19,6 +19,7 @@ import com.sparta.dailyswitter.domain.user.entity.User;
 import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
 import com.sparta.dailyswitter.domain.user.repository.UserRepository;
 import com.sparta.dailyswitter.security.JwtUtil;
+import com.sparta.dailyswitter.security.PrincipalCache;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +51,9 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -189,15 +193,26 @@ class AuthServiceTest {
     @Test
     @DisplayName("유효한 로그아웃")
     void logout_ValidRequest() {
-        User user = User.builder()
+        User principal = User.builder()
+            .id(1L)
+            .userId("testuser")
+            .password("password")
+            .refreshToken("refreshToken")
+            .build();
+        User stored = User.builder()
+            .id(1L)
             .userId("testuser")
             .password("password")
+            .refreshToken("refreshToken")
             .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(stored));
 
-        authService.logout(user);
+        authService.logout(principal);
 
-        assertNull(user.getRefreshToken());
-        verify(userRepository, times(1)).save(user);
+        assertNull(stored.getRefreshToken());
+        assertEquals("refreshToken", principal.getRefreshToken());
+        verify(userRepository, times(1)).save(stored);
+        verify(principalCache, times(1)).evict("testuser");
     }
 
     @Test
@@ -208,10 +223,12 @@ class AuthServiceTest {
             .build();
 
         User user = User.builder()
+            .id(1L)
             .userId("testuser")
             .password("encodedpassword")
             .role(UserRoleEnum.WITHDRAW)
             .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
         CustomException exception = assertThrows(CustomException.class,
             () -> authService.signout(requestDto, user));
@@ -227,10 +244,12 @@ class AuthServiceTest {
             .build();
 
         User user = User.builder()
+            .id(1L)
             .userId("testuser")
             .password("encodedPassword")
             .role(UserRoleEnum.USER)
             .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
         when(passwordEncoder.matches(requestDto.getPassword(), user.getPassword())).thenReturn(
             false);
@@ -248,18 +267,28 @@ class AuthServiceTest {
             .password("password")
             .build();
 
-        User user = User.builder()
+        User principal = User.builder()
+            .id(1L)
+            .userId("testuser")
+            .password("encodedPassword")
+            .role(UserRoleEnum.USER)
+            .build();
+        User stored = User.builder()
+            .id(1L)
             .userId("testuser")
             .password("encodedPassword")
             .role(UserRoleEnum.USER)
             .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(stored));
 
-        when(passwordEncoder.matches(requestDto.getPassword(), user.getPassword())).thenReturn(
+        when(passwordEncoder.matches(requestDto.getPassword(), stored.getPassword())).thenReturn(
             true);
 
-        authService.signout(requestDto, user);
+        authService.signout(requestDto, principal);
 
-        assertEquals(UserRoleEnum.WITHDRAW, user.getRole());
-        verify(userRepository, times(1)).save(user);
+        assertEquals(UserRoleEnum.WITHDRAW, stored.getRole());
+        assertEquals(UserRoleEnum.USER, principal.getRole());
+        verify(userRepository, times(1)).save(stored);
+        verify(principalCache, times(1)).evict("testuser");
     }
-}
\ No newline at end of file
+}
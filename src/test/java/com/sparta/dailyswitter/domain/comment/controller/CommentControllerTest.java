@@ -2,6 +2,7 @@ package com.sparta.dailyswitter.domain.comment.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
@@ -11,7 +12,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.domain.comment.dto.CommentRequestDto;
 import com.sparta.dailyswitter.domain.comment.dto.CommentResponseDto;
 import com.sparta.dailyswitter.domain.comment.entity.Comment;
@@ -119,17 +122,18 @@ public class CommentControllerTest {
 
     @Test
     @DisplayName("댓글 조회 테스트")
-    void getComment() throws Exception {
-        when(commentService.getComment(anyLong())).thenReturn(
-            Collections.singletonList(responseDto));
+    void getComments() throws Exception {
+        when(commentService.getComments(anyLong(), any(), anyInt())).thenReturn(
+            new CursorResponseDto<>(Collections.singletonList(responseDto), null));
 
         MvcResult result = mockMvc.perform(get("/api/posts/1/comments")
                 .contentType("application/json"))
             .andExpect(status().isOk())
             .andReturn();
 
-        List<CommentResponseDto> commentResponseDtos = objectMapper.readValue(
-            result.getResponse().getContentAsString(),
+        JsonNode content = objectMapper.readTree(result.getResponse().getContentAsString())
+            .get("content");
+        List<CommentResponseDto> commentResponseDtos = objectMapper.convertValue(content,
             objectMapper.getTypeFactory().constructCollectionType(
                 List.class, CommentResponseDto.class));
 
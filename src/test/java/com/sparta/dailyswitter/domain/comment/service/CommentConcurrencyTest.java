@@ -0,0 +1,67 @@
+package com.sparta.dailyswitter.domain.comment.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.dailyswitter.common.support.Concurrently;
+import com.sparta.dailyswitter.common.support.MySqlIntegrationTest;
+import com.sparta.dailyswitter.domain.comment.dto.CommentRequestDto;
+import com.sparta.dailyswitter.domain.comment.dto.CommentResponseDto;
+import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.post.repository.PostRepository;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
+import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class CommentConcurrencyTest extends MySqlIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("같은 게시물에 동시에 댓글을 등록/삭제해도 교착 없이 모두 반영되고 댓글 수가 맞음")
+    void createAndDeleteComments_Concurrently() throws Exception {
+        User user = userRepository.save(User.builder()
+            .userId("commentconcurrency")
+            .username("commentconcurrency")
+            .password("password")
+            .role(UserRoleEnum.USER)
+            .build());
+        Post post = postRepository.save(Post.builder()
+            .title("title")
+            .contents("contents")
+            .user(user)
+            .build());
+
+        List<CommentResponseDto> comments = Concurrently.run(THREADS, () -> commentService.createComment(
+            post.getId(), CommentRequestDto.builder().content("comment").build(), user));
+        assertEquals(THREADS, commentCount(post.getId()));
+
+        List<Callable<Void>> deletes = new ArrayList<>();
+        for (CommentResponseDto comment : comments) {
+            deletes.add(() -> {
+                commentService.deleteComment(post.getId(), comment.getId(), user);
+                return null;
+            });
+        }
+        Concurrently.run(deletes);
+        assertEquals(0L, commentCount(post.getId()));
+    }
+
+    private long commentCount(Long postId) {
+        return postRepository.findById(postId).orElseThrow().getCommentCount();
+    }
+}
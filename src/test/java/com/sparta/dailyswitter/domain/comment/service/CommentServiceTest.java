@@ -2,25 +2,34 @@ package com.sparta.dailyswitter.domain.comment.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.common.exception.CustomException;
 import com.sparta.dailyswitter.common.exception.ErrorCode;
 import com.sparta.dailyswitter.domain.comment.dto.CommentRequestDto;
 import com.sparta.dailyswitter.domain.comment.dto.CommentResponseDto;
+import com.sparta.dailyswitter.domain.comment.dto.CommentSearchCondition;
 import com.sparta.dailyswitter.domain.comment.entity.Comment;
-import com.sparta.dailyswitter.domain.comment.entity.QComment;
 import com.sparta.dailyswitter.domain.comment.repository.CommentRepository;
+import com.sparta.dailyswitter.domain.like.commentlike.service.CommentLikeCounter;
 import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.post.entity.QPost;
 import com.sparta.dailyswitter.domain.post.service.PostService;
 import com.sparta.dailyswitter.domain.user.entity.User;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -44,6 +53,9 @@ class CommentServiceTest {
     @Mock
     private JPAQueryFactory jpaQueryFactory;
 
+    @Mock
+    private CommentLikeCounter commentLikeCounter;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -91,38 +103,78 @@ class CommentServiceTest {
 
     @Test
     @DisplayName("게시글 댓글 조회 성공 테스트")
-    public void getComment_Success() {
-        QComment qComment = QComment.comment;
-        JPAQuery<Comment> query = mock(JPAQuery.class);
-
-        when(jpaQueryFactory.selectFrom(qComment)).thenReturn(query);
-        when(query.where(qComment.post.id.eq(testPost.getId()))).thenReturn(query);
-        when(query.fetch()).thenReturn(Collections.singletonList(testComment));
-
-        List<CommentResponseDto> comments = commentService.getComment(testPost.getId());
-
-        assertNotNull(comments);
-        assertEquals(1, comments.size());
-        assertEquals("Test Comment", comments.get(0).getContent());
+    public void getComments_Success() {
+        LocalDateTime now = LocalDateTime.now();
+        JPAQuery<String> titleQuery = mock(JPAQuery.class, RETURNS_SELF);
+        JPAQuery<CommentResponseDto> query = mock(JPAQuery.class, RETURNS_SELF);
+
+        when(jpaQueryFactory.select(QPost.post.title)).thenReturn(titleQuery);
+        when(titleQuery.fetchOne()).thenReturn("Post");
+        when(jpaQueryFactory.select(any(ConstructorExpression.class))).thenReturn(query);
+        when(query.fetch()).thenReturn(List.of(
+            new CommentResponseDto(1L, "Test Comment", "testuser", 0L, now, now)));
+
+        CursorResponseDto<CommentResponseDto> comments = commentService.getComments(testPost.getId(), null, 20);
+
+        assertEquals(1, comments.getContent().size());
+        assertEquals("Test Comment", comments.getContent().get(0).getContent());
+        assertEquals("Post", comments.getContent().get(0).getPostTitle());
+        assertFalse(comments.isHasNext());
     }
 
     @Test
     @DisplayName("댓글 조회 시 댓글이 없을 경우 예외발생")
-    public void getComment_Fail() {
-        QComment qComment = QComment.comment;
-        JPAQuery<Comment> query = mock(JPAQuery.class);
+    public void getComments_Fail() {
+        JPAQuery<String> titleQuery = mock(JPAQuery.class, RETURNS_SELF);
+        JPAQuery<CommentResponseDto> query = mock(JPAQuery.class, RETURNS_SELF);
 
-        when(jpaQueryFactory.selectFrom(qComment)).thenReturn(query);
-        when(query.where(qComment.post.id.eq(testPost.getId()))).thenReturn(query);
+        when(jpaQueryFactory.select(QPost.post.title)).thenReturn(titleQuery);
+        when(titleQuery.fetchOne()).thenReturn("Post");
+        when(jpaQueryFactory.select(any(ConstructorExpression.class))).thenReturn(query);
         when(query.fetch()).thenReturn(Collections.emptyList());
 
         CustomException exception = assertThrows(CustomException.class, () -> {
-            commentService.getComment(testPost.getId());
+            commentService.getComments(testPost.getId(), null, 20);
         });
 
         assertEquals(ErrorCode.COMMENT_NOT_FOUND, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("댓글 조회 시 게시물이 없을 경우 예외발생")
+    public void getComments_PostNotFound() {
+        JPAQuery<String> titleQuery = mock(JPAQuery.class, RETURNS_SELF);
+
+        when(jpaQueryFactory.select(QPost.post.title)).thenReturn(titleQuery);
+        when(titleQuery.fetchOne()).thenReturn(null);
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.getComments(testPost.getId(), null, 20);
+        });
+
+        assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("관리자 댓글 목록 조회 시 size 를 넘는 결과가 있으면 다음 커서 반환")
+    public void getAdminComments_HasNext() {
+        LocalDateTime now = LocalDateTime.now();
+        JPAQuery<CommentResponseDto> query = mock(JPAQuery.class, RETURNS_SELF);
+
+        when(jpaQueryFactory.select(any(Expression.class))).thenReturn(query);
+        when(query.fetch()).thenReturn(List.of(
+            new CommentResponseDto(3L, "Post", "c3", "testuser", 0L, now, now),
+            new CommentResponseDto(2L, "Post", "c2", "testuser", 0L, now, now),
+            new CommentResponseDto(1L, "Post", "c1", "testuser", 0L, now, now)));
+
+        CursorResponseDto<CommentResponseDto> response = commentService.getAdminComments(
+            new CommentSearchCondition(), null, 2);
+
+        assertEquals(2, response.getContent().size());
+        assertTrue(response.isHasNext());
+        assertNotNull(response.getNextCursor());
+    }
+
     @Test
     @DisplayName("댓글 업데이트 성공 테스트")
     public void updateComment() {
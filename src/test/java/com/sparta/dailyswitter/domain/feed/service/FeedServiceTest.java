@@ -0,0 +1,159 @@
+package com.sparta.dailyswitter.domain.feed.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.domain.feed.repository.FeedRepository;
+import com.sparta.dailyswitter.domain.follow.service.FollowGraphCache;
+import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.user.entity.QUser;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Mock
+    private FollowGraphCache followGraphCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private FeedService feedService;
+
+    private JPAQuery<Long> query;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        query = mock(JPAQuery.class, RETURNS_SELF);
+        when(jpaQueryFactory.select(QUser.user.id)).thenReturn(query);
+    }
+
+    @Test
+    @DisplayName("pull 에서 push 로 돌아온 작성자의 게시물을 팔로워 피드에 채움")
+    void refreshPullAuthors_BackfillOnPush() {
+        when(query.fetch()).thenReturn(List.of(1L, 2L), List.of(2L));
+
+        feedService.refreshPullAuthors();
+        verify(feedRepository, never()).backfillFollowers(anyLong(), anyInt());
+
+        feedService.refreshPullAuthors();
+        verify(feedRepository).backfillFollowers(1L, 100);
+        verify(feedRepository, never()).backfillFollowers(2L, 100);
+    }
+
+    @Test
+    @DisplayName("피드 채우기에 실패한 작성자는 pull 로 남고 다음 갱신에서 다시 시도함")
+    void refreshPullAuthors_RetryFailedBackfill() {
+        when(query.fetch()).thenReturn(List.of(1L), List.of(), List.of());
+        when(feedRepository.backfillFollowers(1L, 100))
+            .thenThrow(new IllegalStateException())
+            .thenReturn(3);
+
+        feedService.refreshPullAuthors();
+        feedService.refreshPullAuthors();
+        feedService.onFollow(2L, 1L);
+        verify(feedRepository, never()).backfill(any(), any(), anyInt());
+
+        feedService.refreshPullAuthors();
+        verify(feedRepository, times(2)).backfillFollowers(1L, 100);
+    }
+
+    @Test
+    @DisplayName("피드 재구성은 사용자 id 구간마다 지우고 다시 펼치며 pull 작성자는 제외함")
+    @SuppressWarnings("unchecked")
+    void rebuildAll_ByUserIdRangeExcludingPullAuthors() {
+        when(query.fetch()).thenReturn(List.of(7L));
+        feedService.refreshPullAuthors();
+        ReflectionTestUtils.setField(feedService, "rebuildBatchSize", 2);
+        when(feedRepository.findMaxUserId()).thenReturn(3L);
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(feedRepository.fanOutFollowers(anyLong(), anyLong(), any())).thenReturn(5, 1);
+
+        int rebuilt = feedService.rebuildAll();
+
+        assertEquals(6, rebuilt);
+        InOrder inOrder = inOrder(feedRepository);
+        inOrder.verify(feedRepository).deleteByUserIdRange(0L, 2L);
+        inOrder.verify(feedRepository).fanOutFollowers(0L, 2L, Set.of(7L));
+        inOrder.verify(feedRepository).deleteByUserIdRange(2L, 4L);
+        inOrder.verify(feedRepository).fanOutFollowers(2L, 4L, Set.of(7L));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("기동 시 요청을 받기 전에 pull 작성자를 읽어 첫 게시물부터 펼치지 않음")
+    void afterSingletonsInstantiated_LoadsPullAuthors() {
+        when(query.fetch()).thenReturn(List.of(1L));
+
+        feedService.afterSingletonsInstantiated();
+        feedService.onFollow(2L, 1L);
+
+        verify(feedRepository, never()).backfill(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("대량 등록 게시물은 묶음마다 트랜잭션을 나눠 펼치고 pull 작성자 게시물은 건너뜀")
+    @SuppressWarnings("unchecked")
+    void fanOutPosts_InChunks() {
+        when(query.fetch()).thenReturn(List.of(9L));
+        feedService.refreshPullAuthors();
+        ReflectionTestUtils.setField(feedService, "bulkFanOutChunkSize", 2);
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        feedService.fanOut(List.of(post(1L, 1L), post(2L, 9L), post(3L, 1L), post(4L, 1L), post(5L, 2L)));
+
+        InOrder inOrder = inOrder(feedRepository);
+        inOrder.verify(feedRepository).fanOutPosts(List.of(1L, 3L));
+        inOrder.verify(feedRepository).fanOutPosts(List.of(4L, 5L));
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+    }
+
+    private Post post(Long postId, Long authorId) {
+        User author = mock(User.class);
+        when(author.getId()).thenReturn(authorId);
+        Post post = mock(Post.class);
+        when(post.getUser()).thenReturn(author);
+        lenient().when(post.getId()).thenReturn(postId);
+        return post;
+    }
+}
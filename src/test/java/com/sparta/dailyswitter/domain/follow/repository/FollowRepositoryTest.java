@@ -0,0 +1,70 @@
+package com.sparta.dailyswitter.domain.follow.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.dailyswitter.domain.follow.entity.FollowId;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class FollowRepositoryTest {
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User follower;
+    private User following;
+
+    @BeforeEach
+    void setUp() {
+        follower = persistUser("follower");
+        following = persistUser("following");
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("팔로우는 한 번만 등록되고 중복 등록은 0 을 반환함")
+    void insertIfAbsent_Duplicate() {
+        assertEquals(1, followRepository.insertIfAbsent(follower.getId(), following.getId()));
+        assertEquals(0, followRepository.insertIfAbsent(follower.getId(), following.getId()));
+        assertTrue(followRepository.existsById(new FollowId(follower.getId(), following.getId())));
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 팔로우되지 않음")
+    void insertIfAbsent_UserNotFound() {
+        assertEquals(0, followRepository.insertIfAbsent(follower.getId(), following.getId() + 1000));
+    }
+
+    @Test
+    @DisplayName("언팔로우는 팔로우 중일 때만 1 을 반환함")
+    void deleteIfPresent() {
+        followRepository.insertIfAbsent(follower.getId(), following.getId());
+
+        assertEquals(1, followRepository.deleteIfPresent(follower.getId(), following.getId()));
+        assertEquals(0, followRepository.deleteIfPresent(follower.getId(), following.getId()));
+    }
+
+    private User persistUser(String loginId) {
+        User user = User.builder()
+            .userId(loginId)
+            .username(loginId)
+            .password("Password1!")
+            .role(UserRoleEnum.USER)
+            .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.dailyswitter.domain.follow.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.dailyswitter.common.support.Concurrently;
+import com.sparta.dailyswitter.common.support.MySqlIntegrationTest;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
+import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class FollowConcurrencyTest extends MySqlIntegrationTest {
+
+    private static final int FOLLOWERS = 16;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private FollowerCountCounter followerCountCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("한 사용자를 동시에 팔로우/언팔로우해도 반영 중인 follower_count 와 교착 없이 모두 반영됨")
+    void followAndUnfollow_Concurrently() throws Exception {
+        // 대상보다 id 가 작은 팔로워와 큰 팔로워가 섞이게 만든다.
+        List<User> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS / 2; i++) {
+            followers.add(saveUser("followconcurrency" + i));
+        }
+        User celebrity = saveUser("followconcurrencytarget");
+        for (int i = FOLLOWERS / 2; i < FOLLOWERS; i++) {
+            followers.add(saveUser("followconcurrency" + i));
+        }
+
+        Concurrently.run(tasks(followers, follower -> followService.followUser(follower.getId(), celebrity.getId())));
+        followerCountCounter.flushAll();
+        assertEquals(FOLLOWERS, followerCount(celebrity.getId()));
+        assertEquals(1L, userRepository.findById(followers.get(0).getId()).orElseThrow().getFollowingCount());
+
+        Concurrently.run(tasks(followers, follower -> followService.unfollowUser(follower.getId(), celebrity.getId())));
+        followerCountCounter.flushAll();
+        assertEquals(0L, followerCount(celebrity.getId()));
+    }
+
+    // 팔로우 작업 사이사이에 follower_count 반영도 함께 돌려, 반영 트랜잭션과의 잠금 순서까지 확인한다.
+    private List<Callable<Void>> tasks(List<User> followers, Consumer<User> action) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (User follower : followers) {
+            tasks.add(() -> {
+                action.accept(follower);
+                followerCountCounter.flush();
+                return null;
+            });
+        }
+        return tasks;
+    }
+
+    private long followerCount(Long userId) {
+        return userRepository.findById(userId).orElseThrow().getFollowerCount();
+    }
+
+    private User saveUser(String userId) {
+        return userRepository.save(User.builder()
+            .userId(userId)
+            .username(userId)
+            .password("password")
+            .role(UserRoleEnum.USER)
+            .build());
+    }
+}
@@ -0,0 +1,171 @@
+package com.sparta.dailyswitter.domain.follow.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.exception.CustomException;
+import com.sparta.dailyswitter.common.exception.ErrorCode;
+import com.sparta.dailyswitter.common.metrics.ActivityMetrics;
+import com.sparta.dailyswitter.domain.feed.service.FeedService;
+import com.sparta.dailyswitter.domain.follow.entity.FollowId;
+import com.sparta.dailyswitter.domain.follow.repository.FollowRepository;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class FollowServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Mock
+    private FeedService feedService;
+
+    @Mock
+    private ActivityMetrics activityMetrics;
+
+    @Mock
+    private FollowGraphCache followGraphCache;
+
+    @Mock
+    private FollowerCountCounter followerCountCounter;
+
+    @InjectMocks
+    private FollowService followService;
+
+    @Test
+    @DisplayName("팔로우 시 팔로우 수와 피드, 캐시가 함께 갱신됨")
+    void followUser_Success() {
+        stubUsers(1L, 2L);
+        when(followRepository.insertIfAbsent(1L, 2L)).thenReturn(1);
+
+        followService.followUser(1L, 2L);
+
+        verify(userRepository).addFollowingCount(1L, 1L);
+        verify(followerCountCounter).increment(2L);
+        verify(feedService).onFollow(1L, 2L);
+        verify(followGraphCache).onFollowed(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("팔로우 전에 두 사용자 행을 id 오름차순으로 잠금")
+    void followUser_LocksInIdOrder() {
+        stubUsers(3L, 2L);
+        when(followRepository.insertIfAbsent(3L, 2L)).thenReturn(1);
+
+        followService.followUser(3L, 2L);
+
+        InOrder order = inOrder(userRepository, followRepository);
+        order.verify(userRepository).findByIdForShare(2L);
+        order.verify(userRepository).findByIdForUpdate(3L);
+        order.verify(followRepository).insertIfAbsent(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("이미 팔로우 중인 사용자를 팔로우하면 예외발생")
+    void followUser_Duplicate() {
+        stubUsers(1L, 2L);
+        when(followRepository.insertIfAbsent(1L, 2L)).thenReturn(0);
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> followService.followUser(1L, 2L));
+
+        assertEquals(ErrorCode.USER_NOT_UNIQUE, exception.getErrorCode());
+        verify(userRepository, never()).addFollowingCount(anyLong(), anyLong());
+        verify(followerCountCounter, never()).increment(anyLong());
+    }
+
+    @Test
+    @DisplayName("없는 사용자를 팔로우하면 예외발생")
+    void followUser_UserNotFound() {
+        when(userRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(userRepository.findByIdForShare(2L)).thenReturn(Optional.empty());
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> followService.followUser(1L, 2L));
+
+        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+        verify(followRepository, never()).insertIfAbsent(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 팔로우와 PK 가 충돌하면 중복 예외발생")
+    void followUser_ConcurrentDuplicate() {
+        stubUsers(1L, 2L);
+        when(followRepository.insertIfAbsent(1L, 2L)).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(followRepository.existsById(new FollowId(1L, 2L))).thenReturn(true);
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> followService.followUser(1L, 2L));
+
+        assertEquals(ErrorCode.USER_NOT_UNIQUE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("중복이 아닌 제약 위반은 그대로 전달됨")
+    void followUser_OtherIntegrityViolation() {
+        stubUsers(1L, 2L);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("foreign key");
+        when(followRepository.insertIfAbsent(1L, 2L)).thenThrow(violation);
+        when(followRepository.existsById(new FollowId(1L, 2L))).thenReturn(false);
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+            () -> followService.followUser(1L, 2L));
+
+        assertSame(violation, exception);
+    }
+
+    @Test
+    @DisplayName("언팔로우 시 팔로우 수와 피드, 캐시가 함께 갱신됨")
+    void unfollowUser_Success() {
+        when(followRepository.deleteIfPresent(1L, 2L)).thenReturn(1);
+
+        followService.unfollowUser(1L, 2L);
+
+        verify(userRepository).addFollowingCount(1L, -1L);
+        verify(followerCountCounter).decrement(2L);
+        verify(feedService).onUnfollow(1L, 2L);
+        verify(followGraphCache).onUnfollowed(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("팔로우하지 않은 사용자를 언팔로우하면 예외발생")
+    void unfollowUser_NotFollowing() {
+        when(followRepository.deleteIfPresent(1L, 2L)).thenReturn(0);
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> followService.unfollowUser(1L, 2L));
+
+        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+        verify(followerCountCounter, never()).decrement(anyLong());
+    }
+
+    private void stubUsers(Long followerUserId, Long followingUserId) {
+        when(userRepository.findByIdForUpdate(followerUserId))
+            .thenReturn(Optional.of(User.builder().id(followerUserId).build()));
+        when(userRepository.findByIdForShare(followingUserId))
+            .thenReturn(Optional.of(User.builder().id(followingUserId).build()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.sparta.dailyswitter.domain.like.commentlike.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.dailyswitter.domain.comment.dto.CommentRequestDto;
+import com.sparta.dailyswitter.domain.comment.entity.Comment;
+import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class CommentLikeRepositoryTest {
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User author;
+    private User liker;
+    private Post post;
+    private Post otherPost;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        author = persistUser("author");
+        liker = persistUser("liker");
+        post = persistPost(author);
+        otherPost = persistPost(author);
+        comment = Comment.builder()
+            .user(author)
+            .post(post)
+            .requestDto(CommentRequestDto.builder().content("Comment").build())
+            .build();
+        entityManager.persist(comment);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요는 한 번만 등록되고 중복 등록은 0 을 반환함")
+    void insertIfAbsent_Duplicate() {
+        assertEquals(1, commentLikeRepository.insertIfAbsent(liker.getId(), post.getId(), comment.getId()));
+        assertEquals(0, commentLikeRepository.insertIfAbsent(liker.getId(), post.getId(), comment.getId()));
+    }
+
+    @Test
+    @DisplayName("다른 게시물 경로나 본인 댓글에는 등록되지 않음")
+    void insertIfAbsent_WrongPostOrOwnComment() {
+        assertEquals(0, commentLikeRepository.insertIfAbsent(liker.getId(), otherPost.getId(), comment.getId()));
+        assertEquals(0, commentLikeRepository.insertIfAbsent(author.getId(), post.getId(), comment.getId()));
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 취소는 댓글이 속한 게시물 경로로만 가능함")
+    void deleteIfPresent_OnlyThroughOwnPost() {
+        commentLikeRepository.insertIfAbsent(liker.getId(), post.getId(), comment.getId());
+
+        assertEquals(0, commentLikeRepository.deleteIfPresent(liker.getId(), otherPost.getId(), comment.getId()));
+        assertEquals(1, commentLikeRepository.deleteIfPresent(liker.getId(), post.getId(), comment.getId()));
+        assertEquals(0, commentLikeRepository.deleteIfPresent(liker.getId(), post.getId(), comment.getId()));
+    }
+
+    private User persistUser(String loginId) {
+        User user = User.builder()
+            .userId(loginId)
+            .username(loginId)
+            .password("Password1!")
+            .role(UserRoleEnum.USER)
+            .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Post persistPost(User user) {
+        Post post = Post.builder()
+            .title("Title")
+            .contents("Contents")
+            .user(user)
+            .build();
+        entityManager.persist(post);
+        return post;
+    }
+}
@@ -0,0 +1,158 @@
+package com.sparta.dailyswitter.domain.like.commentlike.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.exception.CustomException;
+import com.sparta.dailyswitter.common.exception.ErrorCode;
+import com.sparta.dailyswitter.common.metrics.ActivityMetrics;
+import com.sparta.dailyswitter.domain.comment.dto.CommentRequestDto;
+import com.sparta.dailyswitter.domain.comment.entity.Comment;
+import com.sparta.dailyswitter.domain.comment.service.CommentService;
+import com.sparta.dailyswitter.domain.like.commentlike.repository.CommentLikeRepository;
+import com.sparta.dailyswitter.domain.like.service.LikedSetCache;
+import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.post.service.PostService;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CommentLikeServiceTest {
+
+    @Mock
+    private CommentLikeRepository commentLikeRepository;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private CommentService commentService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Mock
+    private CommentLikeCounter commentLikeCounter;
+
+    @Mock
+    private LikedSetCache likedSetCache;
+
+    @Mock
+    private ActivityMetrics activityMetrics;
+
+    @InjectMocks
+    private CommentLikeService commentLikeService;
+
+    private User user;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+            .id(1L)
+            .userId("liker")
+            .build();
+
+        User author = User.builder()
+            .id(2L)
+            .userId("author")
+            .build();
+
+        post = Post.builder()
+            .id(10L)
+            .title("Title")
+            .contents("Contents")
+            .user(author)
+            .build();
+
+        comment = Comment.builder()
+            .id(100L)
+            .user(author)
+            .post(post)
+            .requestDto(CommentRequestDto.builder().content("Comment").build())
+            .build();
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 등록 시 좋아요 수와 사용자 좋아요 수, 캐시가 함께 갱신됨")
+    void createCommentLike_Success() {
+        when(commentLikeRepository.insertIfAbsent(1L, 10L, 100L)).thenReturn(1);
+
+        commentLikeService.createCommentLike(10L, 100L, user);
+
+        verify(commentLikeCounter).increment(100L);
+        verify(userRepository).addLikedCommentsCount(1L, 1L);
+        verify(likedSetCache).onCommentLiked(1L, 100L);
+        verify(commentService, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 댓글에 다시 좋아요하면 예외발생")
+    void createCommentLike_Duplicate() {
+        when(commentLikeRepository.insertIfAbsent(1L, 10L, 100L)).thenReturn(0);
+        when(commentService.findById(100L)).thenReturn(comment);
+        when(postService.findById(10L)).thenReturn(post);
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> commentLikeService.createCommentLike(10L, 100L, user));
+
+        assertEquals(ErrorCode.COMMENT_LIKE_EXIST, exception.getErrorCode());
+        verify(commentLikeCounter, never()).increment(anyLong());
+    }
+
+    @Test
+    @DisplayName("없는 게시물의 댓글에 좋아요하면 예외발생")
+    void createCommentLike_PostNotFound() {
+        when(commentLikeRepository.insertIfAbsent(1L, 10L, 100L)).thenReturn(0);
+        when(commentService.findById(100L)).thenReturn(comment);
+        when(postService.findById(10L)).thenThrow(new CustomException(ErrorCode.POST_NOT_FOUND));
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> commentLikeService.createCommentLike(10L, 100L, user));
+
+        assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+        verify(commentLikeCounter, never()).increment(anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 취소 시 좋아요 수와 사용자 좋아요 수, 캐시가 함께 갱신됨")
+    void deleteCommentLike_Success() {
+        when(commentLikeRepository.deleteIfPresent(1L, 10L, 100L)).thenReturn(1);
+
+        commentLikeService.deleteCommentLike(10L, 100L, user);
+
+        verify(commentLikeCounter).decrement(100L);
+        verify(userRepository).addLikedCommentsCount(1L, -1L);
+        verify(likedSetCache).onCommentUnliked(1L, 100L);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 댓글의 좋아요를 취소하면 예외발생")
+    void deleteCommentLike_NotExist() {
+        when(commentLikeRepository.deleteIfPresent(1L, 10L, 100L)).thenReturn(0);
+        when(commentService.findById(100L)).thenReturn(comment);
+        when(postService.findById(10L)).thenReturn(post);
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> commentLikeService.deleteCommentLike(10L, 100L, user));
+
+        assertEquals(ErrorCode.COMMENT_LIKE_NOT_EXIST, exception.getErrorCode());
+        verify(commentLikeCounter, never()).decrement(anyLong());
+    }
+}
@@ -0,0 +1,76 @@
+package com.sparta.dailyswitter.domain.like.postlike.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class PostLikeRepositoryTest {
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User author;
+    private User liker;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = persistUser("author");
+        liker = persistUser("liker");
+        post = Post.builder()
+            .title("Title")
+            .contents("Contents")
+            .user(author)
+            .build();
+        entityManager.persist(post);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("좋아요는 한 번만 등록되고 중복 등록은 0 을 반환함")
+    void insertIfAbsent_Duplicate() {
+        assertEquals(1, postLikeRepository.insertIfAbsent(liker.getId(), post.getId()));
+        assertEquals(0, postLikeRepository.insertIfAbsent(liker.getId(), post.getId()));
+    }
+
+    @Test
+    @DisplayName("없는 게시물이나 본인 게시물에는 등록되지 않음")
+    void insertIfAbsent_MissingPostOrOwnPost() {
+        assertEquals(0, postLikeRepository.insertIfAbsent(liker.getId(), post.getId() + 1000));
+        assertEquals(0, postLikeRepository.insertIfAbsent(author.getId(), post.getId()));
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 등록된 경우에만 1 을 반환함")
+    void deleteIfPresent() {
+        postLikeRepository.insertIfAbsent(liker.getId(), post.getId());
+
+        assertEquals(1, postLikeRepository.deleteIfPresent(liker.getId(), post.getId()));
+        assertEquals(0, postLikeRepository.deleteIfPresent(liker.getId(), post.getId()));
+    }
+
+    private User persistUser(String loginId) {
+        User user = User.builder()
+            .userId(loginId)
+            .username(loginId)
+            .password("Password1!")
+            .role(UserRoleEnum.USER)
+            .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,141 @@
+package com.sparta.dailyswitter.domain.like.postlike.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.dailyswitter.common.exception.CustomException;
+import com.sparta.dailyswitter.common.exception.ErrorCode;
+import com.sparta.dailyswitter.common.metrics.ActivityMetrics;
+import com.sparta.dailyswitter.domain.like.postlike.repository.PostLikeRepository;
+import com.sparta.dailyswitter.domain.like.service.LikedSetCache;
+import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.post.service.PostService;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeServiceTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Mock
+    private PostLikeCounter postLikeCounter;
+
+    @Mock
+    private LikedSetCache likedSetCache;
+
+    @Mock
+    private ActivityMetrics activityMetrics;
+
+    @InjectMocks
+    private PostLikeService postLikeService;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+            .id(1L)
+            .userId("liker")
+            .build();
+
+        User author = User.builder()
+            .id(2L)
+            .userId("author")
+            .build();
+
+        post = Post.builder()
+            .id(10L)
+            .title("Title")
+            .contents("Contents")
+            .user(author)
+            .build();
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 시 좋아요 수와 사용자 좋아요 수, 캐시가 함께 갱신됨")
+    void createPostLike_Success() {
+        when(postLikeRepository.insertIfAbsent(1L, 10L)).thenReturn(1);
+
+        postLikeService.createPostLike(10L, user);
+
+        verify(postLikeCounter).increment(10L);
+        verify(userRepository).addLikedPostsCount(1L, 1L);
+        verify(likedSetCache).onPostLiked(1L, 10L);
+        verify(postService, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 게시물에 다시 좋아요하면 예외발생")
+    void createPostLike_Duplicate() {
+        when(postLikeRepository.insertIfAbsent(1L, 10L)).thenReturn(0);
+        when(postService.findById(10L)).thenReturn(post);
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> postLikeService.createPostLike(10L, user));
+
+        assertEquals(ErrorCode.POST_LIKE_EXIST, exception.getErrorCode());
+        verify(postLikeCounter, never()).increment(anyLong());
+    }
+
+    @Test
+    @DisplayName("없는 게시물에 좋아요하면 예외발생")
+    void createPostLike_PostNotFound() {
+        when(postLikeRepository.insertIfAbsent(1L, 10L)).thenReturn(0);
+        when(postService.findById(10L)).thenThrow(new CustomException(ErrorCode.POST_NOT_FOUND));
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> postLikeService.createPostLike(10L, user));
+
+        assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+        verify(postLikeCounter, never()).increment(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 시 좋아요 수와 사용자 좋아요 수, 캐시가 함께 갱신됨")
+    void deletePostLike_Success() {
+        when(postLikeRepository.deleteIfPresent(1L, 10L)).thenReturn(1);
+
+        postLikeService.deletePostLike(10L, user);
+
+        verify(postLikeCounter).decrement(10L);
+        verify(userRepository).addLikedPostsCount(1L, -1L);
+        verify(likedSetCache).onPostUnliked(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 게시물의 좋아요를 취소하면 예외발생")
+    void deletePostLike_NotExist() {
+        when(postLikeRepository.deleteIfPresent(1L, 10L)).thenReturn(0);
+        when(postService.findById(10L)).thenReturn(post);
+
+        CustomException exception = assertThrows(CustomException.class,
+            () -> postLikeService.deletePostLike(10L, user));
+
+        assertEquals(ErrorCode.POST_LIKE_NOT_EXIST, exception.getErrorCode());
+        verify(postLikeCounter, never()).decrement(anyLong());
+    }
+}
@@ -1,8 +1,11 @@
 package com.sparta.dailyswitter.domain.post.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -10,8 +13,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
 import com.sparta.dailyswitter.domain.post.dto.PostRequestDto;
 import com.sparta.dailyswitter.domain.post.dto.PostResponseDto;
 import com.sparta.dailyswitter.domain.post.service.PostService;
@@ -27,10 +31,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -179,9 +179,6 @@ class PostControllerTest {
         assertEquals(testUser.getUserId(), responseDto.getUserId());
     }
 
-    /**
-     * pageable쪽의 문제로 작동이 안됩니다.
-     */
     @Test
     @DisplayName("팔로우한 게시물 조회 테스트")
     @WithMockUser(username = "testuser")
@@ -196,23 +193,19 @@ class PostControllerTest {
             .updatedAt(null)
             .build();
 
-        Page<PostResponseDto> page = new PageImpl<>(Collections.singletonList(postResponseDto),
-            PageRequest.of(0, 5), 1);
+        CursorResponseDto<PostResponseDto> response = new CursorResponseDto<>(
+            Collections.singletonList(postResponseDto), null);
 
-        when(postService.getFollowedPosts(any(User.class), any(Pageable.class))).thenReturn(page);
+        when(postService.getFollowedPosts(any(User.class), isNull(), anyInt())).thenReturn(response);
 
-        MvcResult result = mockMvc.perform(get("/api/posts/following")
-                .param("page", "0"))
+        MvcResult result = mockMvc.perform(get("/api/posts/following"))
             .andExpect(status().isOk())
             .andReturn();
 
-        PageImpl<PostResponseDto> responsePage = objectMapper.readValue(
-            result.getResponse().getContentAsString(),
-            new TypeReference<PageImpl<PostResponseDto>>() {
-            });
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
 
-        assertEquals(1, responsePage.getTotalElements());
-        assertEquals(1, responsePage.getTotalPages());
-        assertEquals(postResponseDto.getTitle(), responsePage.getContent().get(0).getTitle());
+        assertEquals(1, body.get("content").size());
+        assertEquals(postResponseDto.getTitle(), body.get("content").get(0).get("title").asText());
+        assertFalse(body.get("hasNext").asBoolean());
     }
 }
\ No newline at end of file
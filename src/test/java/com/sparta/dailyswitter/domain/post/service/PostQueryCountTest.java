@@ -0,0 +1,60 @@
+package com.sparta.dailyswitter.domain.post.service;
+
+import static com.sparta.dailyswitter.common.query.QueryCountAssertions.assertMaxQueries;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparta.dailyswitter.common.dto.CursorResponseDto;
+import com.sparta.dailyswitter.domain.post.dto.PostResponseDto;
+import com.sparta.dailyswitter.domain.post.entity.Post;
+import com.sparta.dailyswitter.domain.user.entity.User;
+import com.sparta.dailyswitter.domain.user.entity.UserRoleEnum;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+class PostQueryCountTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+            .userId("querycount")
+            .username("querycount")
+            .password("Password1!")
+            .email("querycount@email.com")
+            .role(UserRoleEnum.USER)
+            .build();
+        entityManager.persist(user);
+        for (int i = 0; i < 10; i++) {
+            entityManager.persist(Post.builder()
+                .title("title" + i)
+                .contents("contents" + i)
+                .user(user)
+                .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("타임라인 조회는 게시글 수와 관계없이 쿼리 한 번으로 끝난다")
+    void getTimeline_SingleQuery() {
+        CursorResponseDto<PostResponseDto> result = assertMaxQueries(1,
+            () -> postService.getTimeline(null, 5, "latest"));
+
+        assertEquals(5, result.getContent().size());
+    }
+}
@@ -4,21 +4,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sparta.dailyswitter.common.exception.CustomException;
 import com.sparta.dailyswitter.common.exception.ErrorCode;
-import com.sparta.dailyswitter.domain.follow.service.FollowService;
+import com.sparta.dailyswitter.domain.feed.service.FeedService;
+import com.sparta.dailyswitter.domain.like.postlike.service.PostLikeCounter;
+import com.sparta.dailyswitter.domain.post.dto.PostBulkRequestDto;
 import com.sparta.dailyswitter.domain.post.dto.PostRequestDto;
 import com.sparta.dailyswitter.domain.post.dto.PostResponseDto;
 import com.sparta.dailyswitter.domain.post.entity.Post;
 import com.sparta.dailyswitter.domain.post.repository.PostRepository;
 import com.sparta.dailyswitter.domain.user.entity.User;
 import com.sparta.dailyswitter.domain.user.repository.UserRepository;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,7 +41,13 @@ class PostServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private FollowService followService;
+    private FeedService feedService;
+
+    @Mock
+    private PostLikeCounter postLikeCounter;
+
+    @Mock
+    private PostCache postCache;
 
     @InjectMocks
     private PostService postService;
@@ -81,9 +92,51 @@ class PostServiceTest {
         assertEquals("Title", responseDto.getTitle());
         assertEquals("Contents", responseDto.getContents());
         assertEquals("testuser", responseDto.getUserId());
+        verify(feedService, times(1)).fanOut(post);
     }
 
 
+    @Test
+    @DisplayName("아직 반영되지 않은 좋아요 수가 응답에 포함됨")
+    void createPost_PendingLikes() {
+        when(userRepository.findByUserId(anyString())).thenReturn(Optional.of(user));
+        when(postRepository.save(any(Post.class))).thenReturn(post);
+        when(postLikeCounter.pending(1L)).thenReturn(3L);
+
+        PostResponseDto responseDto = postService.createPost(postRequestDto, "testuser");
+
+        assertEquals(3L, responseDto.getPostLikes());
+    }
+
+    @Test
+    @DisplayName("게시물 일괄 등록 시 한 번에 저장하고 저장된 게시물로 피드를 펼침")
+    void bulkCreatePosts() {
+        List<Post> savedPosts = List.of(post, post);
+        when(userRepository.findByUserId("testuser")).thenReturn(Optional.of(user));
+        when(postRepository.saveAllAndFlush(anyList())).thenReturn(savedPosts);
+
+        int count = postService.bulkCreatePosts(PostBulkRequestDto.builder()
+            .userId("testuser")
+            .posts(List.of(postRequestDto, postRequestDto))
+            .build());
+
+        assertEquals(2, count);
+        verify(postRepository, times(1)).saveAllAndFlush(anyList());
+        verify(feedService, times(1)).fanOut(savedPosts);
+    }
+
+    @Test
+    @DisplayName("게시물 일괄 등록 시 목록이 비어 있으면 예외발생")
+    void bulkCreatePosts_Empty() {
+        CustomException exception = assertThrows(CustomException.class, () ->
+            postService.bulkCreatePosts(PostBulkRequestDto.builder()
+                .userId("testuser")
+                .posts(List.of())
+                .build()));
+
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("게시물 생성 시 비회원일 경우 예외발생")
     void createPost_UserNotFound() {
@@ -110,6 +163,7 @@ class PostServiceTest {
 
         assertEquals("Updated Title", updatedPost.getTitle());
         assertEquals("Updated Contents", updatedPost.getContents());
+        verify(postCache, times(1)).evict(1L);
     }
 
     @Test
@@ -153,7 +207,23 @@ class PostServiceTest {
 
         postService.deletePost(1L, "testuser");
 
+        verify(feedService, times(1)).onPostDeleted(1L);
         verify(postRepository, times(1)).delete(post);
+        verify(postCache, times(1)).evict(1L);
+    }
+
+    @Test
+    @DisplayName("캐시된 게시물 조회 시 반영 전 좋아요 수를 더한 복사본을 반환함")
+    void getPost_Cached() {
+        PostResponseDto cached = new PostResponseDto(post);
+        when(postCache.get(eq(1L), any())).thenReturn(cached);
+        when(postLikeCounter.pending(1L)).thenReturn(2L);
+
+        PostResponseDto responseDto = postService.getPost(1L);
+
+        assertEquals(2L, responseDto.getPostLikes());
+        assertEquals(0L, cached.getPostLikes());
+        assertEquals("Title", responseDto.getTitle());
     }
 
     @Test